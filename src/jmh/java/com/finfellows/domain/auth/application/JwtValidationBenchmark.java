@@ -0,0 +1,64 @@
+package com.finfellows.domain.auth.application;
+
+import com.finfellows.global.config.security.OAuth2Config;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 하던 access token 검증 비용 비교.
+// baseline: 이전 필터처럼 validateToken / getUserIdFromToken 에서 매번 파서를 새로 만들어 두 번 파싱한다.
+// codec: JwtCodec 의 공유 파서로 한 번 파싱한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtCodec jwtCodec;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[64];
+        for (int i = 0; i < keyBytes.length; i++) {
+            keyBytes[i] = (byte) (i * 31 + 7);
+        }
+        secret = Base64.getEncoder().encodeToString(keyBytes);
+
+        OAuth2Config oAuth2Config = new OAuth2Config();
+        oAuth2Config.getAuth().setTokenSecret(secret);
+        oAuth2Config.getAuth().setAccessTokenExpirationMsec(TimeUnit.HOURS.toMillis(1));
+        jwtCodec = new JwtCodec(oAuth2Config);
+        jwtCodec.init();
+
+        Date now = new Date();
+        token = jwtCodec.encodeAccessToken(1L, "USER", now, new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)));
+    }
+
+    @Benchmark
+    public Long baseline() {
+        Jwts.parserBuilder().setSigningKey(secret).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(secret)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public Long codec() {
+        return jwtCodec.decode(token).userId();
+    }
+
+}
@@ -3,11 +3,19 @@ package com.finfellows;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class FinfellowsApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(FinfellowsApplication.class, args);
+		SpringApplication application = new SpringApplication(FinfellowsApplication.class);
+		// GPT 호출, S3 업로드 동안 DB 커넥션을 붙잡지 않도록 OSIV 는 기본으로 끈다. 설정으로 다시 켤 수 있다.
+		// X-Forwarded-* 는 Tomcat RemoteIpValve 가 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies, 기본 사설 대역)에서 온 경우에만 반영한다.
+		application.setDefaultProperties(Map.of(
+				"spring.jpa.open-in-view", "false",
+				"server.forward-headers-strategy", "native"));
+		application.run(args);
 	}
 
 }
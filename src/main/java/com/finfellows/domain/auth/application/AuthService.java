@@ -25,6 +25,7 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional
     public ResponseCustom<?> whoAmI(UserPrincipal userPrincipal) {
@@ -34,11 +35,14 @@ public class AuthService {
     }
 
     @Transactional
-    public Message signOut(final RefreshTokenReq tokenRefreshRequest) {
+    public Message signOut(final UserPrincipal userPrincipal, final RefreshTokenReq tokenRefreshRequest) {
         Token token = tokenRepository.findByRefreshToken(tokenRefreshRequest.getRefreshToken())
                 .orElseThrow(() -> new DefaultAuthenticationException(ErrorCode.INVALID_AUTHENTICATION));
         tokenRepository.delete(token);
 
+        if (userPrincipal != null)
+            userPrincipalCache.revoke(userPrincipal.getId());
+
         return Message.builder()
                 .message("로그아웃 하였습니다.")
                 .build();
@@ -54,6 +58,7 @@ public class AuthService {
 
         userRepository.delete(user.get());
         tokenRepository.delete(token.get());
+        userPrincipalCache.revoke(userPrincipal.getId());
 
 
         return Message.builder()
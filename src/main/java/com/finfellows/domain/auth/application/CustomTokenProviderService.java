@@ -4,8 +4,6 @@ import com.finfellows.domain.auth.dto.TokenMapping;
 import com.finfellows.global.config.security.OAuth2Config;
 import com.finfellows.global.config.security.token.UserPrincipal;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,7 +11,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.util.Date;
 
 @Slf4j
@@ -26,8 +23,14 @@ public class CustomTokenProviderService {
     @Autowired
     private final CustomUserDetailsService customUserDetailsService;
 
-    public CustomTokenProviderService(CustomUserDetailsService customUserDetailsService) {
+    private final UserPrincipalCache userPrincipalCache;
+
+    private final JwtCodec jwtCodec;
+
+    public CustomTokenProviderService(CustomUserDetailsService customUserDetailsService, UserPrincipalCache userPrincipalCache, JwtCodec jwtCodec) {
         this.customUserDetailsService = customUserDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.jwtCodec = jwtCodec;
     }
 
 
@@ -37,16 +40,7 @@ public class CustomTokenProviderService {
 
         Date accessTokenExpiresIn = new Date(now.getTime() + oAuth2Config.getAuth().getAccessTokenExpirationMsec());
 
-        String secretKey = oAuth2Config.getAuth().getTokenSecret();
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-
-        String accessToken = Jwts.builder()
-                .setSubject(Long.toString(userPrincipal.getId()))
-                .setIssuedAt(new Date())
-                .setExpiration(accessTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+        String accessToken = jwtCodec.encodeAccessToken(userPrincipal.getId(), null, now, accessTokenExpiresIn);
 
         return TokenMapping.builder()
                 .email(userPrincipal.getEmail())
@@ -57,7 +51,7 @@ public class CustomTokenProviderService {
 
     public Long getExpiration(String token) {
         // accessToken 남은 유효시간
-        Date expiration = Jwts.parserBuilder().setSigningKey(oAuth2Config.getAuth().getTokenSecret()).build().parseClaimsJws(token).getBody().getExpiration();
+        Date expiration = jwtCodec.decode(token).expiration();
         // 현재 시간
         Long now = new Date().getTime();
         //시간 계산
@@ -75,23 +69,9 @@ public class CustomTokenProviderService {
         Date accessTokenExpiresIn = new Date(now.getTime() + oAuth2Config.getAuth().getAccessTokenExpirationMsec());
         Date refreshTokenExpiresIn = new Date(now.getTime() + oAuth2Config.getAuth().getRefreshTokenExpirationMsec());
 
-        String secretKey = oAuth2Config.getAuth().getTokenSecret();
-
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
+        String accessToken = jwtCodec.encodeAccessToken(userPrincipal.getId(), userPrincipal.getRole(), now, accessTokenExpiresIn);
 
-        String accessToken = Jwts.builder()
-                .setSubject(Long.toString(userPrincipal.getId()))
-                .setIssuedAt(new Date())
-                .setExpiration(accessTokenExpiresIn)
-                .claim("role", userPrincipal.getRole())
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
-
-        String refreshToken = Jwts.builder()
-                .setExpiration(refreshTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+        String refreshToken = jwtCodec.encodeRefreshToken(refreshTokenExpiresIn);
 
 
         return TokenMapping.builder()
@@ -104,10 +84,13 @@ public class CustomTokenProviderService {
 
 
     public boolean validateToken(String token) {
+        return parseToken(token) != null;
+    }
+
+    // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리한다. 유효하지 않으면 null
+    public JwtCodec.DecodedToken parseToken(String token) {
         try {
-            //log.info("bearerToken = {} \n oAuth2Config.getAuth()={}", token, oAuth2Config.getAuth().getTokenSecret());
-            Jwts.parserBuilder().setSigningKey(oAuth2Config.getAuth().getTokenSecret()).build().parseClaimsJws(token);
-            return true;
+            return jwtCodec.decode(token);
         } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("잘못된 JWT 서명입니다.");
         } catch (MalformedJwtException ex) {
@@ -119,33 +102,27 @@ public class CustomTokenProviderService {
         } catch (IllegalArgumentException ex) {
             log.error("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
+    // 로그아웃/탈퇴로 무효화된 토큰이거나 사용자 식별자가 없는 토큰(refresh token)이면 null
+    public UsernamePasswordAuthenticationToken getAuthentication(JwtCodec.DecodedToken token) {
+        Long userId = token.userId();
+        if (userId == null) return null;
 
+        if (userPrincipalCache.isRevoked(userId, token.issuedAt())) return null;
 
-    public UsernamePasswordAuthenticationToken getAuthenticationById(String token) {
-        Long userId = getUserIdFromToken(token);
-        UserDetails userDetails = customUserDetailsService.loadUserById(userId);
-        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        return authentication;
+        UserPrincipal userPrincipal = userPrincipalCache.get(userId, token.expiration());
+        return new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
     }
 
+
+
     public UsernamePasswordAuthenticationToken getAuthenticationByEmail(String email) {
         UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         return authentication;
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(oAuth2Config.getAuth().getTokenSecret())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.parseLong(claims.getSubject());
-    }
-
 
 }
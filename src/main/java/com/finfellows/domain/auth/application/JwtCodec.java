@@ -0,0 +1,108 @@
+package com.finfellows.domain.auth.application;
+
+import com.finfellows.global.config.security.OAuth2Config;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+// 서명 키와 파서를 한 번만 만들어 재사용한다. JwtParser 는 불변이라 여러 스레드가 공유해도 된다.
+// 새 토큰은 현재 키(kid)로 서명하고, 검증은 헤더의 kid 로 키 링에서 키를 고른다.
+// kid 가 없는 토큰(키 링 도입 이전 발급분)은 현재 키로 검증한다.
+@RequiredArgsConstructor
+@Component
+public class JwtCodec {
+
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS512;
+
+    private final OAuth2Config oAuth2Config;
+
+    private String currentKeyId;
+    private Key currentKey;
+    private Map<String, Key> keyRing;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        OAuth2Config.Auth auth = oAuth2Config.getAuth();
+
+        Map<String, Key> keys = new HashMap<>();
+        auth.getRetiredTokenSecrets().forEach((keyId, secret) -> keys.put(keyId, toKey(secret)));
+
+        currentKeyId = auth.getTokenKeyId();
+        currentKey = toKey(auth.getTokenSecret());
+        keys.put(currentKeyId, currentKey);
+        keyRing = Map.copyOf(keys);
+
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    public String encodeAccessToken(Long userId, Object role, Date issuedAt, Date expiration) {
+        JwtBuilder builder = newBuilder()
+                .setSubject(Long.toString(userId))
+                .setIssuedAt(issuedAt)
+                .setExpiration(expiration);
+        if (role != null) builder.claim("role", role);
+        return builder.signWith(currentKey, ALGORITHM).compact();
+    }
+
+    public String encodeRefreshToken(Date expiration) {
+        return newBuilder()
+                .setExpiration(expiration)
+                .signWith(currentKey, ALGORITHM)
+                .compact();
+    }
+
+    // 서명과 만료를 검증하고 필요한 클레임을 한 번에 꺼낸다. 유효하지 않으면 JwtException 계열 예외
+    public DecodedToken decode(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        String subject = claims.getSubject();
+        return new DecodedToken(
+                subject == null ? null : Long.parseLong(subject),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
+    private JwtBuilder newBuilder() {
+        return Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, currentKeyId);
+    }
+
+    private Key resolveKey(String keyId) {
+        if (keyId == null) return currentKey;
+        Key key = keyRing.get(keyId);
+        if (key == null) throw new SignatureException("알 수 없는 서명 키입니다. kid=" + keyId);
+        return key;
+    }
+
+    private static Key toKey(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    // userId 는 refresh token 처럼 subject 가 없으면 null
+    // 권한은 토큰의 role 클레임 대신 UserPrincipalCache 의 사용자 정보로 정하므로 꺼내지 않는다. (권한 변경이 바로 반영되도록)
+    public record DecodedToken(Long userId, Date issuedAt, Date expiration) {
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.finfellows.domain.auth.application;
+
+import com.finfellows.global.cache.ExpiringCache;
+import com.finfellows.global.config.security.OAuth2Config;
+import com.finfellows.global.config.security.token.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 인증 필터가 매 요청마다 사용자를 조회하지 않도록 UserPrincipal 을 잠시 보관한다.
+// 로그아웃/탈퇴 시 사용자 단위로 비우고, 그 시점 이전에 발급된 access token 은 만료 전이라도 거부한다.
+@RequiredArgsConstructor
+@Component
+public class UserPrincipalCache {
+
+    private static final Duration PRINCIPAL_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final OAuth2Config oAuth2Config;
+
+    private final ExpiringCache<Long, UserPrincipal> principals = new ExpiringCache<>(10_000, PRINCIPAL_TIME_TO_LIVE);
+    // userId -> 무효화 기록. 크기 제한으로 밀려나면 무효화한 토큰이 다시 통과하므로 LRU 캐시에 두지 않는다.
+    // access token 유효 기간이 지나면 이전 토큰은 어차피 만료되므로 그때 지운다.
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+    // 토큰보다 오래 보관하지 않는다.
+    public UserPrincipal get(Long userId, Date tokenExpiration) {
+        UserPrincipal cached = principals.get(userId);
+        if (cached != null) return cached;
+
+        UserPrincipal loaded = (UserPrincipal) customUserDetailsService.loadUserById(userId);
+        if (tokenExpiration != null)
+            principals.put(userId, loaded, Duration.ofMillis(tokenExpiration.getTime() - System.currentTimeMillis()));
+        return loaded;
+    }
+
+    // iat 는 초 단위이므로 무효화와 같은 초에 발급된 토큰은 허용한다.
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Revocation revocation = revocations.get(userId);
+        if (revocation == null) return false;
+        if (revocation.isExpired(System.currentTimeMillis())) {
+            revocations.remove(userId, revocation);
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 < revocation.revokedAtSeconds();
+    }
+
+    // 무효화는 로그아웃/탈퇴 때만 일어나므로 이때 만료된 기록을 함께 정리한다.
+    public void revoke(Long userId) {
+        long now = System.currentTimeMillis();
+        revocations.values().removeIf(revocation -> revocation.isExpired(now));
+        revocations.put(userId, new Revocation(now / 1000, now + oAuth2Config.getAuth().getAccessTokenExpirationMsec()));
+        principals.invalidate(userId);
+    }
+
+    private record Revocation(long revokedAtSeconds, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+
+    }
+
+}
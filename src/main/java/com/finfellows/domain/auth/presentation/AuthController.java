@@ -68,7 +68,7 @@ public class AuthController {
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "Schemas의 RefreshTokenRequest를 참고해주세요.") @Valid @RequestBody RefreshTokenReq tokenRefreshRequest
     ) {
-        return ResponseCustom.OK(authService.signOut(tokenRefreshRequest));
+        return ResponseCustom.OK(authService.signOut(userPrincipal, tokenRefreshRequest));
     }
 
 
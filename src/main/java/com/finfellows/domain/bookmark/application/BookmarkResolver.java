@@ -0,0 +1,49 @@
+package com.finfellows.domain.bookmark.application;
+
+import com.finfellows.domain.bookmark.domain.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+// 목록 한 페이지의 북마크 여부를 IN 쿼리 한 번으로 조회한다. 비로그인이거나 빈 페이지면 쿼리하지 않는다.
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class BookmarkResolver {
+
+    private final FinancialProductBookmarkRepository financialProductBookmarkRepository;
+    private final CmaBookmarkRepository cmaBookmarkRepository;
+    private final PolicyInfoBookmarkRepository policyInfoBookmarkRepository;
+    private final EduContentBookmarkRepository eduContentBookmarkRepository;
+    private final NewsContentBookmarkRepository newsContentBookmarkRepository;
+
+    public Set<Long> findBookmarkedFinancialProductIds(Long userId, Collection<Long> financialProductIds) {
+        return resolve(userId, financialProductIds, financialProductBookmarkRepository::findBookmarkedFinancialProductIds);
+    }
+
+    public Set<Long> findBookmarkedCmaIds(Long userId, Collection<Long> cmaIds) {
+        return resolve(userId, cmaIds, cmaBookmarkRepository::findBookmarkedCmaIds);
+    }
+
+    public Set<Long> findBookmarkedPolicyInfoIds(Long userId, Collection<Long> policyInfoIds) {
+        return resolve(userId, policyInfoIds, policyInfoBookmarkRepository::findBookmarkedPolicyInfoIds);
+    }
+
+    public Set<Long> findBookmarkedEduContentIds(Long userId, Collection<Long> eduContentIds) {
+        return resolve(userId, eduContentIds, eduContentBookmarkRepository::findBookmarkedEduContentIds);
+    }
+
+    public Set<Long> findBookmarkedNewsContentIds(Long userId, Collection<Long> newsContentIds) {
+        return resolve(userId, newsContentIds, newsContentBookmarkRepository::findBookmarkedNewsContentIds);
+    }
+
+    private Set<Long> resolve(Long userId, Collection<Long> ids, BiFunction<Long, Collection<Long>, Set<Long>> bookmarkedIds) {
+        if (userId == null || ids == null || ids.isEmpty()) return Set.of();
+        return bookmarkedIds.apply(userId, ids);
+    }
+
+}
@@ -9,7 +9,7 @@ import com.finfellows.domain.bookmark.dto.CmaFinancialProductBookmarkRes;
 import com.finfellows.domain.bookmark.dto.FinancialProductBookmarkRes;
 import com.finfellows.domain.product.domain.CMA;
 import com.finfellows.domain.product.domain.FinancialProduct;
-import com.finfellows.domain.product.domain.repository.BankRepository;
+import com.finfellows.domain.product.catalog.BankRegistry;
 import com.finfellows.domain.product.domain.repository.CmaRepository;
 import com.finfellows.domain.product.domain.repository.FinancialProductRepository;
 import com.finfellows.domain.user.domain.User;
@@ -39,7 +39,7 @@ public class FinancialProductBookmarkServiceImpl implements BookmarkService{
     private final FinancialProductRepository financialProductRepository;
     private final CmaRepository cmaRepository;
     private final CmaBookmarkRepository cmaBookmarkRepository;
-    private final BankRepository bankRepository;
+    private final BankRegistry bankRegistry;
 
 
     @Transactional
@@ -89,19 +89,13 @@ public class FinancialProductBookmarkServiceImpl implements BookmarkService{
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ResponseCustom<CmaFinancialProductBookmarkRes> findBookmarks(UserPrincipal userPrincipal) {
-        User user = userRepository.findByEmail(userPrincipal.getEmail())
-                .orElseThrow(RuntimeException::new);
-
-
-        List<FinancialProductBookmark> bookmarks = financialProductBookmarkRepository.findAllByUser(user);
-
-        List<CmaBookmark> cmaBookmarks = cmaBookmarkRepository.findAllByUser(user);
-
-
-        List<FinancialProductBookmarkRes> financialProductBookmarkResList = FinancialProductBookmarkRes.toDto(bookmarks, bankRepository);
-        List<CmaBookmarkRes> cmaBookmarkResList = CmaBookmarkRes.toDto(cmaBookmarks, bankRepository);
+        // 즐겨찾기 개수와 관계없이 상품, CMA 각 한 번씩만 조회한다.
+        List<FinancialProductBookmarkRes> financialProductBookmarkResList = FinancialProductBookmarkRes.withBankLogos(
+                financialProductBookmarkRepository.findFinancialProductBookmarks(userPrincipal.getId()), bankRegistry);
+        List<CmaBookmarkRes> cmaBookmarkResList = CmaBookmarkRes.withBankLogos(
+                cmaBookmarkRepository.findCmaBookmarks(userPrincipal.getId()), bankRegistry);
 
         CmaFinancialProductBookmarkRes cmaFinancialProductBookmarkRes = new CmaFinancialProductBookmarkRes(financialProductBookmarkResList, cmaBookmarkResList);
 
@@ -146,18 +140,9 @@ public class FinancialProductBookmarkServiceImpl implements BookmarkService{
         CMA cma = cmaRepository.findById(cmaId)
                 .orElseThrow(RuntimeException::new);
 
-        log.info(String.valueOf(user));
-        log.info(String.valueOf(cma));
-
-
-        CmaBookmark cmaBookmark = CmaBookmark.builder()
-                .user(user)
-                .cma(cma)
-                .build();
-
-        log.info(cmaBookmark.toString());
-
-        cmaBookmarkRepository.delete(cmaBookmark);
+        // 새로 만든 엔티티를 delete 하면 아무것도 지워지지 않으므로 저장된 즐겨찾기를 찾아 삭제한다.
+        cmaBookmarkRepository.findByUserAndCma(user, cma)
+                .ifPresent(cmaBookmarkRepository::delete);
 
         return Message.builder()
                 .message("즐겨찾기 삭제에 성공했습니다.")
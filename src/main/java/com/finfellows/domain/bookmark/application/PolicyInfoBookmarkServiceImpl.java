@@ -71,14 +71,9 @@ public class PolicyInfoBookmarkServiceImpl implements BookmarkService {
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ResponseCustom<?> findBookmarks(UserPrincipal userPrincipal) {
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(RuntimeException::new);
-
-        List<PolicyInfoBookmark> bookmarks = policyInfoBookmarkRepository.findAllByUser(user);
-
-        List<PolicyInfoBookmarkRes> policyInfoBookmarkResList = PolicyInfoBookmarkRes.toDto(bookmarks);
+        List<PolicyInfoBookmarkRes> policyInfoBookmarkResList = policyInfoBookmarkRepository.findPolicyInfoBookmarks(userPrincipal.getId());
 
         return ResponseCustom.OK(policyInfoBookmarkResList);
     }
@@ -119,19 +119,11 @@ public class PostBookmarkServiceImpl {
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ResponseCustom<?> findBookmarks(UserPrincipal userPrincipal) {
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(RuntimeException::new);
-
-
-        List<EduContentBookmark> eduContentBookmarks = eduContentBookmarkRepository.findAllByUser(user);
-
-        List<NewsContentBookmark> newsContentBookmarks = newsContentBookmarkRepository.findAllByUser(user);
-
-        List<EduContentBookmarkRes> eduContentBookmarkResList = EduContentBookmarkRes.toDto(eduContentBookmarks);
+        List<EduContentBookmarkRes> eduContentBookmarkResList = eduContentBookmarkRepository.findEduContentBookmarks(userPrincipal.getId());
 
-        List<NewsContentBookmarkRes> newsContentBookmarkResList = NewsContentBookmarkRes.toDto(newsContentBookmarks);
+        List<NewsContentBookmarkRes> newsContentBookmarkResList = newsContentBookmarkRepository.findNewsContentBookmarks(userPrincipal.getId());
 
 
         EduContentNewsContentBookmarkRes eduContentNewsContentBookmarkRes = new EduContentNewsContentBookmarkRes(newsContentBookmarkResList, eduContentBookmarkResList);
@@ -0,0 +1,11 @@
+package com.finfellows.domain.bookmark.domain.repository;
+
+import com.finfellows.domain.bookmark.dto.CmaBookmarkRes;
+
+import java.util.List;
+
+public interface CmaBookmarkQueryDslRepository {
+
+    List<CmaBookmarkRes> findCmaBookmarks(Long userId);
+
+}
@@ -0,0 +1,38 @@
+package com.finfellows.domain.bookmark.domain.repository;
+
+import com.finfellows.domain.bookmark.dto.CmaBookmarkRes;
+import com.finfellows.domain.bookmark.dto.QCmaBookmarkRes;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.finfellows.domain.bookmark.domain.QCmaBookmark.cmaBookmark;
+import static com.finfellows.domain.product.domain.QCMA.cMA;
+
+@RequiredArgsConstructor
+@Repository
+public class CmaBookmarkQueryDslRepositoryImpl implements CmaBookmarkQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CmaBookmarkRes> findCmaBookmarks(Long userId) {
+        return queryFactory
+                .select(new QCmaBookmarkRes(
+                        cMA.id,
+                        cMA.bankName,
+                        cMA.productName,
+                        cMA.cmaType,
+                        cMA.maturityInterestRate,
+                        cMA.specialCondition
+                ))
+                .from(cmaBookmark)
+                .innerJoin(cmaBookmark.cma, cMA)
+                .where(cmaBookmark.user.id.eq(userId))
+                .orderBy(cmaBookmark.id.asc())
+                .fetch();
+    }
+
+}
@@ -7,14 +7,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
-public interface CmaBookmarkRepository extends JpaRepository<CmaBookmark, Long> {
+public interface CmaBookmarkRepository extends JpaRepository<CmaBookmark, Long>, CmaBookmarkQueryDslRepository {
     List<CmaBookmark> findAllByUser(User user);
 
     @Query("SELECT bm FROM CmaBookmark bm WHERE bm.user = :user AND bm.cma = :cma")
     Optional<CmaBookmark> findByUserAndCma(@Param("user") User user, @Param("cma") CMA cma);
 
     Optional<CmaBookmark> findCmaBookmarkByCmaAndUser(CMA cma, User user);
+
+    @Query("select b.cma.id from CmaBookmark b where b.user.id = :userId and b.cma.id in :cmaIds")
+    Set<Long> findBookmarkedCmaIds(@Param("userId") Long userId, @Param("cmaIds") Collection<Long> cmaIds);
 }
\ No newline at end of file
@@ -2,19 +2,31 @@ package com.finfellows.domain.bookmark.domain.repository;
 
 import com.finfellows.domain.bookmark.domain.EduContentBookmark;
 import com.finfellows.domain.bookmark.domain.FinancialProductBookmark;
+import com.finfellows.domain.bookmark.dto.EduContentBookmarkRes;
 import com.finfellows.domain.educontent.domain.EduContent;
 import com.finfellows.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface EduContentBookmarkRepository extends JpaRepository<EduContentBookmark, Long> {
     Optional<EduContentBookmark> findByUserAndEduContent(User user, EduContent eduContent);
 
     List<EduContentBookmark> findAllByUser(User user);
 
+    @Query("select new com.finfellows.domain.bookmark.dto.EduContentBookmarkRes(true, e.id, e.title, e.content, e.contentType) " +
+            "from EduContentBookmark b join b.eduContent e where b.user.id = :userId order by b.id")
+    List<EduContentBookmarkRes> findEduContentBookmarks(@Param("userId") Long userId);
+
     boolean existsByUser_IdAndEduContent_Id(Long userId, Long id);
 
+    @Query("select b.eduContent.id from EduContentBookmark b where b.user.id = :userId and b.eduContent.id in :eduContentIds")
+    Set<Long> findBookmarkedEduContentIds(@Param("userId") Long userId, @Param("eduContentIds") Collection<Long> eduContentIds);
+
 }
 
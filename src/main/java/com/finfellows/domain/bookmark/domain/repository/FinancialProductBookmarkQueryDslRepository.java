@@ -0,0 +1,11 @@
+package com.finfellows.domain.bookmark.domain.repository;
+
+import com.finfellows.domain.bookmark.dto.FinancialProductBookmarkRes;
+
+import java.util.List;
+
+public interface FinancialProductBookmarkQueryDslRepository {
+
+    List<FinancialProductBookmarkRes> findFinancialProductBookmarks(Long userId);
+
+}
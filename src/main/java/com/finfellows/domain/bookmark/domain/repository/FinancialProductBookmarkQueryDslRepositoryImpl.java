@@ -0,0 +1,56 @@
+package com.finfellows.domain.bookmark.domain.repository;
+
+import com.finfellows.domain.bookmark.dto.FinancialProductBookmarkRes;
+import com.finfellows.domain.bookmark.dto.QFinancialProductBookmarkRes;
+import com.finfellows.domain.product.domain.QFinancialProductOption;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.finfellows.domain.bookmark.domain.QFinancialProductBookmark.financialProductBookmark;
+import static com.finfellows.domain.product.domain.QFinancialProduct.financialProduct;
+
+@RequiredArgsConstructor
+@Repository
+public class FinancialProductBookmarkQueryDslRepositoryImpl implements FinancialProductBookmarkQueryDslRepository {
+
+    private static final int REPRESENTATIVE_SAVINGS_TERM = 12;
+
+    private final JPAQueryFactory queryFactory;
+
+    // 12개월 옵션이 있는 상품만, 12개월 옵션 중 가장 먼저 등록된 옵션을 대표 옵션으로 함께 조회한다.
+    @Override
+    public List<FinancialProductBookmarkRes> findFinancialProductBookmarks(Long userId) {
+        QFinancialProductOption representativeOption = new QFinancialProductOption("representativeOption");
+        QFinancialProductOption termOption = new QFinancialProductOption("termOption");
+
+        return queryFactory
+                .select(new QFinancialProductBookmarkRes(
+                        financialProduct.id,
+                        financialProduct.financialProductType,
+                        financialProduct.bankName,
+                        financialProduct.productName,
+                        representativeOption.interestRate,
+                        representativeOption.maximumPreferredInterestRate
+                ))
+                .from(financialProductBookmark)
+                .innerJoin(financialProductBookmark.financialProduct, financialProduct)
+                .innerJoin(representativeOption).on(representativeOption.financialProduct.eq(financialProduct))
+                .where(
+                        financialProductBookmark.user.id.eq(userId),
+                        representativeOption.id.eq(JPAExpressions
+                                .select(termOption.id.min())
+                                .from(termOption)
+                                .where(
+                                        termOption.financialProduct.eq(financialProduct),
+                                        termOption.savingsTerm.eq(REPRESENTATIVE_SAVINGS_TERM)
+                                ))
+                )
+                .orderBy(financialProductBookmark.id.asc())
+                .fetch();
+    }
+
+}
@@ -6,14 +6,21 @@ import com.finfellows.domain.educontent.domain.EduContent;
 import com.finfellows.domain.product.domain.FinancialProduct;
 import com.finfellows.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 import java.util.Optional;
+import java.util.Set;
 
-public interface FinancialProductBookmarkRepository extends JpaRepository<FinancialProductBookmark, Long> {
+public interface FinancialProductBookmarkRepository extends JpaRepository<FinancialProductBookmark, Long>, FinancialProductBookmarkQueryDslRepository {
     Optional<FinancialProductBookmark> findByUserAndFinancialProduct(User user, FinancialProduct financialProduct);
 
     List<FinancialProductBookmark> findAllByUser(User user);
+
+    @Query("select b.financialProduct.id from FinancialProductBookmark b where b.user.id = :userId and b.financialProduct.id in :financialProductIds")
+    Set<Long> findBookmarkedFinancialProductIds(@Param("userId") Long userId, @Param("financialProductIds") Collection<Long> financialProductIds);
 }
 
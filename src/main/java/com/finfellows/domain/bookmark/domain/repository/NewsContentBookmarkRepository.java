@@ -1,18 +1,30 @@
 package com.finfellows.domain.bookmark.domain.repository;
 
 import com.finfellows.domain.bookmark.domain.NewsContentBookmark;
+import com.finfellows.domain.bookmark.dto.NewsContentBookmarkRes;
 import com.finfellows.domain.newscontent.domain.NewsContent;
 import com.finfellows.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface NewsContentBookmarkRepository extends JpaRepository<NewsContentBookmark, Long> {
     Optional<NewsContentBookmark> findByUserAndNewsContent(User user, NewsContent newsContent);
 
     List<NewsContentBookmark> findAllByUser(User user);
 
+    @Query("select new com.finfellows.domain.bookmark.dto.NewsContentBookmarkRes(true, n.id, n.title, n.content, n.contentType) " +
+            "from NewsContentBookmark b join b.newsContent n where b.user.id = :userId order by b.id")
+    List<NewsContentBookmarkRes> findNewsContentBookmarks(@Param("userId") Long userId);
+
 
     boolean existsByUser_IdAndNewsContent_Id(Long userId, Long newsContentId);
+
+    @Query("select b.newsContent.id from NewsContentBookmark b where b.user.id = :userId and b.newsContent.id in :newsContentIds")
+    Set<Long> findBookmarkedNewsContentIds(@Param("userId") Long userId, @Param("newsContentIds") Collection<Long> newsContentIds);
 }
@@ -2,17 +2,29 @@ package com.finfellows.domain.bookmark.domain.repository;
 
 import com.finfellows.domain.bookmark.domain.EduContentBookmark;
 import com.finfellows.domain.bookmark.domain.PolicyInfoBookmark;
+import com.finfellows.domain.bookmark.dto.PolicyInfoBookmarkRes;
 import com.finfellows.domain.educontent.domain.EduContent;
 import com.finfellows.domain.policyinfo.domain.PolicyInfo;
 import com.finfellows.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PolicyInfoBookmarkRepository extends JpaRepository<PolicyInfoBookmark, Long> {
     Optional<PolicyInfoBookmark> findByUserAndPolicyInfo(User user, PolicyInfo policyInfo);
 
     List<PolicyInfoBookmark> findAllByUser(User user);
 
+    @Query("select new com.finfellows.domain.bookmark.dto.PolicyInfoBookmarkRes(true, p.id, p.polyBizSjNm, p.polyItcnCn) " +
+            "from PolicyInfoBookmark b join b.policyInfo p where b.user.id = :userId order by b.id")
+    List<PolicyInfoBookmarkRes> findPolicyInfoBookmarks(@Param("userId") Long userId);
+
+    @Query("select b.policyInfo.id from PolicyInfoBookmark b where b.user.id = :userId and b.policyInfo.id in :policyInfoIds")
+    Set<Long> findBookmarkedPolicyInfoIds(@Param("userId") Long userId, @Param("policyInfoIds") Collection<Long> policyInfoIds);
+
 }
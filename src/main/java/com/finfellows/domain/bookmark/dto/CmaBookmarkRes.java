@@ -1,8 +1,8 @@
 package com.finfellows.domain.bookmark.dto;
 
-import com.finfellows.domain.bookmark.domain.CmaBookmark;
+import com.finfellows.domain.product.catalog.BankRegistry;
 import com.finfellows.domain.product.domain.Bank;
-import com.finfellows.domain.product.domain.repository.BankRepository;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Data
 public class CmaBookmarkRes {
@@ -42,24 +41,17 @@ public class CmaBookmarkRes {
 
 
 
-    public static List<CmaBookmarkRes> toDto(List<CmaBookmark> cmaBookmarks, BankRepository bankRepository) {
-
-        return cmaBookmarks.stream()
-                .map(bookmark -> {
-                    Bank bank = bankRepository.findByBankName(bookmark.getCma().getBankName());
-                    String bankLogoUrl = bank != null ? bank.getBankLogoUrl() : null;
+    // 즐겨찾기 목록 조회용. 은행 로고는 조회 후 BankRegistry 에서 채운다.
+    @QueryProjection
+    public CmaBookmarkRes(Long cmaId, String companyName, String productName, String cmaType, String maturityInterestRate, String specialCondition) {
+        this(Boolean.TRUE, cmaId, companyName, productName, cmaType, maturityInterestRate, specialCondition, null);
+    }
 
-                    return CmaBookmarkRes.builder()
-                            .isLiked(Boolean.TRUE)
-                            .cmaId(bookmark.getCma().getId())
-                            .cmaType(bookmark.getCma().getCmaType())
-                            .productName(bookmark.getCma().getProductName())
-                            .companyName(bookmark.getCma().getBankName())
-                            .maturityInterestRate(bookmark.getCma().getMaturityInterestRate())
-                            .specialCondition(bookmark.getCma().getSpecialCondition())
-                            .bankLogoUrl(bankLogoUrl)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    public static List<CmaBookmarkRes> withBankLogos(List<CmaBookmarkRes> cmaBookmarks, BankRegistry bankRegistry) {
+        cmaBookmarks.forEach(bookmark -> {
+            Bank bank = bankRegistry.findByBankName(bookmark.getCompanyName());
+            bookmark.setBankLogoUrl(bank != null ? bank.getBankLogoUrl() : null);
+        });
+        return cmaBookmarks;
     }
 }
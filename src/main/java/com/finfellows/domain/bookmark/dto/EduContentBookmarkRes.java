@@ -1,13 +1,9 @@
 package com.finfellows.domain.bookmark.dto;
 
-import com.finfellows.domain.bookmark.domain.EduContentBookmark;
 import com.finfellows.domain.post.domain.ContentType;
 import lombok.Builder;
 import lombok.Data;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Data
 public class EduContentBookmarkRes {
     private Boolean isLiked;
@@ -24,16 +20,4 @@ public class EduContentBookmarkRes {
         this.content = content;
         this.contentType = contentType;
     }
-
-    public static List<EduContentBookmarkRes> toDto(List<EduContentBookmark> eduContentBookmarks) {
-        return eduContentBookmarks.stream()
-                .map(bookmark -> EduContentBookmarkRes.builder()
-                        .isLiked(Boolean.TRUE)
-                        .eduContentId(bookmark.getEduContent().getId())
-                        .title(bookmark.getEduContent().getTitle())
-                        .content(bookmark.getEduContent().getContent())
-                        .contentType(ContentType.EDU_CONTENT)
-                        .build())
-                .collect(Collectors.toList());
-    }
 }
@@ -1,19 +1,16 @@
 package com.finfellows.domain.bookmark.dto;
 
-import com.finfellows.domain.bookmark.domain.CmaBookmark;
-import com.finfellows.domain.bookmark.domain.FinancialProductBookmark;
-import com.finfellows.domain.product.domain.FinancialProduct;
-import com.finfellows.domain.product.domain.FinancialProductOption;
+import com.finfellows.domain.product.catalog.BankRegistry;
+import com.finfellows.domain.product.domain.Bank;
 import com.finfellows.domain.product.domain.FinancialProductType;
-import com.finfellows.domain.product.domain.repository.BankRepository;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Builder;
 import lombok.Data;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Data
 public class FinancialProductBookmarkRes {
@@ -44,47 +41,23 @@ public class FinancialProductBookmarkRes {
 
 
 
-    public static List<FinancialProductBookmarkRes> toDto(List<FinancialProductBookmark> bookmarks, BankRepository bankRepository) {
-        List<FinancialProductBookmarkRes> results = new ArrayList<>();
-        Set<Long> includedFinancialProductIds = new HashSet<>();
-
-        for (FinancialProductBookmark bookmark : bookmarks) {
-            FinancialProduct financialProduct = bookmark.getFinancialProduct();
-            Long financialProductId = financialProduct.getId();
-
-            // Skip if financialProductId is already included
-            if (!includedFinancialProductIds.contains(financialProductId)) {
-                // Check if any of the FinancialProductOptions have a savingTerm of 12
-                boolean hasSavingTerm12 = financialProduct.getFinancialProductOption().stream()
-                        .anyMatch(option -> option.getSavingsTerm() != null && option.getSavingsTerm().equals(12));
-
-                if (hasSavingTerm12) {
-                    String bankName = financialProduct.getBankName();
-                    String bankLogoUrl = bankRepository.findByBankName(bankName) != null ? bankRepository.findByBankName(bankName).getBankLogoUrl() : null;
-
-                    // Use the first option as the representative option
-                    FinancialProductOption representativeOption = financialProduct.getFinancialProductOption().get(0);
-
-                    results.add(FinancialProductBookmarkRes.builder()
-                            .isLiked(Boolean.TRUE)
-                            .financialProductId(financialProductId)
-                            .financialProductType(financialProduct.getFinancialProductType())
-                            .companyName(bankName)
-                            .productName(financialProduct.getProductName())
-                            .interestRate(representativeOption.getInterestRate())
-                            .maximumPreferredInterestRate(representativeOption.getMaximumPreferredInterestRate())
-                            .bankLogoUrl(bankLogoUrl)
-                            .build());
+    // 즐겨찾기 목록 조회용. 은행 로고는 조회 후 BankRegistry 에서 채운다.
+    @QueryProjection
+    public FinancialProductBookmarkRes(Long financialProductId, FinancialProductType financialProductType, String companyName, String productName, String interestRate, String maximumPreferredInterestRate) {
+        this(Boolean.TRUE, financialProductId, financialProductType, companyName, productName, interestRate, maximumPreferredInterestRate, null);
+    }
 
-                    // Add the financialProductId to the included set
-                    includedFinancialProductIds.add(financialProductId);
-                }
-            }
+    public static List<FinancialProductBookmarkRes> withBankLogos(List<FinancialProductBookmarkRes> bookmarks, BankRegistry bankRegistry) {
+        Map<Long, FinancialProductBookmarkRes> distinctBookmarks = new LinkedHashMap<>();
+        for (FinancialProductBookmarkRes bookmark : bookmarks) {
+            distinctBookmarks.putIfAbsent(bookmark.getFinancialProductId(), bookmark);
         }
 
-        return results;
-
+        distinctBookmarks.values().forEach(bookmark -> {
+            Bank bank = bankRegistry.findByBankName(bookmark.getCompanyName());
+            bookmark.setBankLogoUrl(bank != null ? bank.getBankLogoUrl() : null);
+        });
+        return new ArrayList<>(distinctBookmarks.values());
     }
 
-
 }
@@ -0,0 +1,210 @@
+package com.finfellows.domain.chatgpt.application;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finfellows.domain.chatgpt.config.ChatgptConfig;
+import com.finfellows.domain.chatgpt.dto.request.ChatgptRequest;
+import com.finfellows.domain.chatgpt.dto.response.ChatgptCompletion;
+import com.finfellows.global.config.datasource.ConnectionPoolMonitor;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// 챗봇 전용 OpenAI 클라이언트. 연결 풀(keep-alive)을 공유하고 동시 연결 수를 제한한다.
+// 연결/읽기(청크 사이 무응답)/전체(스트리밍은 첫 요청부터 마지막 조각까지) 시간 제한을 따로 둔다.
+@Slf4j
+@Component
+public class ChatgptClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<>() {
+    };
+    private static final String DONE = "[DONE]";
+
+    private final WebClient webClient;
+    private final JsonFactory jsonFactory;
+    private final Duration totalTimeout;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final ChatgptUpstreamGuard upstreamGuard;
+
+    // chatgpt.chat-url 을 로컬 스텁 서버로 바꾸면 OpenAI 없이 스트리밍을 확인할 수 있다.
+    public ChatgptClient(WebClient.Builder webClientBuilder,
+                         ObjectMapper objectMapper,
+                         ConnectionPoolMonitor connectionPoolMonitor,
+                         ChatgptUpstreamGuard upstreamGuard,
+                         @Value("${chatgpt.api-key}") String apiKey,
+                         @Value("${chatgpt.chat-url:" + ChatgptConfig.CHAT_URL + "}") String chatUrl,
+                         @Value("${chatgpt.max-connections:50}") int maxConnections,
+                         @Value("${chatgpt.connect-timeout:5s}") Duration connectTimeout,
+                         @Value("${chatgpt.read-timeout:30s}") Duration readTimeout,
+                         @Value("${chatgpt.total-timeout:60s}") Duration totalTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("chatgpt")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 2)
+                .pendingAcquireTimeout(connectTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(chatUrl)
+                .defaultHeader(ChatgptConfig.AUTHORIZATION, ChatgptConfig.BEARER + apiKey)
+                .build();
+        this.jsonFactory = objectMapper.getFactory();
+        this.totalTimeout = totalTimeout;
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.upstreamGuard = upstreamGuard;
+    }
+
+    // stream=false 요청의 choices[0].message.content 와 usage 토큰 수. 응답 전체를 트리로 만들지 않고 토큰 단위로 읽는다.
+    public Mono<ChatgptCompletion> complete(ChatgptRequest request) {
+        connectionPoolMonitor.beforeExternalCall("chatgpt");
+        return upstreamGuard.protect(DataBufferUtils.join(webClient.post()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class))
+                .map(buffer -> {
+                    try (InputStream in = buffer.asInputStream(true)) {
+                        return readCompletion(jsonFactory.createParser(in));
+                    } catch (IOException e) {
+                        throw new IllegalStateException("ChatGPT 응답 파싱 실패", e);
+                    }
+                }));
+    }
+
+    // stream=true 요청의 SSE 응답에서 choices[0].delta.content 조각만 순서대로 흘려보낸다.
+    public Flux<String> streamCompletion(ChatgptRequest request) {
+        connectionPoolMonitor.beforeExternalCall("chatgpt-stream");
+        return upstreamGuard.protectStream(withDeadline(webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .map(ServerSentEvent::data)
+                .filter(Objects::nonNull)
+                .takeWhile(data -> !DONE.equals(data.trim()))
+                .mapNotNull(this::extractDelta)));
+    }
+
+    // Flux.timeout(Duration) 은 조각마다 다시 재므로, 구독 시점부터의 남은 시간으로 매번 제한해 스트림 전체에 마감 시간을 건다.
+    private <T> Flux<T> withDeadline(Flux<T> stream) {
+        return Flux.defer(() -> {
+            long deadline = System.nanoTime() + totalTimeout.toNanos();
+            return stream.timeout(Mono.delay(totalTimeout),
+                    item -> Mono.delay(Duration.ofNanos(Math.max(0, deadline - System.nanoTime()))));
+        });
+    }
+
+    private String extractDelta(String chunk) {
+        try {
+            return extractChoiceContent(jsonFactory.createParser(chunk), "delta");
+        } catch (IOException e) {
+            log.warn("ChatGPT 스트림 청크 파싱 실패: {}", chunk);
+            return null;
+        }
+    }
+
+    private static ChatgptCompletion readCompletion(JsonParser parser) throws IOException {
+        try (parser) {
+            String content = null;
+            int totalTokens = 0;
+            int completionTokens = 0;
+            if (parser.nextToken() != JsonToken.START_OBJECT) return new ChatgptCompletion("", 0, 0);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    JsonStreamContext root = parser.getParsingContext().getParent();
+                    if (parser.nextToken() == JsonToken.START_OBJECT) content = findField(parser, "message", "content");
+                    skipToEndOfArray(parser, root);
+                } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String usageField = parser.getCurrentName();
+                        parser.nextToken();
+                        if ("total_tokens".equals(usageField)) totalTokens = parser.getIntValue();
+                        else if ("completion_tokens".equals(usageField)) completionTokens = parser.getIntValue();
+                        else parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new ChatgptCompletion(Objects.requireNonNullElse(content, ""), totalTokens, completionTokens);
+        }
+    }
+
+    // findField 가 멈춘 위치에서 choices 배열이 닫힐 때까지 건너뛴다.
+    private static void skipToEndOfArray(JsonParser parser, JsonStreamContext root) throws IOException {
+        while (parser.currentToken() != JsonToken.END_ARRAY || parser.getParsingContext() != root) {
+            if (parser.nextToken() == null) return;
+        }
+    }
+
+    // {"choices":[{"<messageField>":{"content":"..."}}]} 에서 content 를 찾으면 나머지는 읽지 않는다.
+    private static String extractChoiceContent(JsonParser parser, String messageField) throws IOException {
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    return parser.nextToken() == JsonToken.START_OBJECT
+                            ? findField(parser, messageField, "content")
+                            : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    // 현재 객체에서 outer.inner 문자열 값을 찾는다.
+    private static String findField(JsonParser parser, String outer, String inner) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (outer.equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String innerField = parser.getCurrentName();
+                    JsonToken innerValue = parser.nextToken();
+                    if (inner.equals(innerField))
+                        return innerValue == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    parser.skipChildren();
+                }
+                return null;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,328 @@
+package com.finfellows.domain.chatgpt.application;
+
+import com.finfellows.domain.chatgpt.dto.response.ChatgptUpstreamStatsResponse;
+import com.finfellows.domain.chatgpt.exception.ChatgptUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// OpenAI 가 느려지거나 실패할 때 챗봇만 빠르게 실패하도록 감싸는 보호막.
+// 1. 차단기: 최근 호출의 실패 비율이 기준을 넘으면 열고, 일정 시간 뒤 한 건만 시험 호출해 성공하면 닫는다.
+// 2. 벌크헤드: OpenAI 로 나가는 동시 호출 수를 제한하고, 스트리밍 응답 전송은 전용 스레드 풀에서 처리한다.
+//    자리가 없으면 chatgpt.bulkhead.max-wait 까지만 기다린다. 호출을 기다리는 서블릿 스레드 수는 챗봇 입장 제어가 제한한다.
+// 3. 제한 시간: 최근 응답 시간의 p99 에 배수를 곱해 정하고, chatgpt.total-timeout 을 넘지 않는다.
+//    시간 초과도 제한 시간만큼 걸린 표본으로 남겨, 평소 응답 시간이 길어지면 제한 시간도 따라 늘어난다. 시험 호출은 최대 제한 시간으로 보낸다.
+@Slf4j
+@Component
+public class ChatgptUpstreamGuard {
+
+    private static final int LATENCY_SAMPLES = 200;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    private enum CircuitState {CLOSED, OPEN, HALF_OPEN}
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final double timeoutMultiplier;
+    private final Duration minTimeout;
+    private final Duration maxTimeout;
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore bulkhead;
+    private final Scheduler callbackScheduler;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private boolean probing;
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int nextOutcome;
+    private int failureCount;
+
+    private final LongAdder rejectedCalls = new LongAdder();
+    private final LatencyWindow completionLatency = new LatencyWindow();
+    private final LatencyWindow firstTokenLatency = new LatencyWindow();
+
+    public ChatgptUpstreamGuard(@Value("${chatgpt.circuit.window-size:20}") int windowSize,
+                                @Value("${chatgpt.circuit.minimum-calls:10}") int minimumCalls,
+                                @Value("${chatgpt.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                @Value("${chatgpt.circuit.open-duration:30s}") Duration openDuration,
+                                @Value("${chatgpt.bulkhead.max-concurrent-calls:16}") int maxConcurrentCalls,
+                                @Value("${chatgpt.bulkhead.max-wait:500ms}") Duration maxWait,
+                                @Value("${chatgpt.bulkhead.callback-threads:16}") int callbackThreads,
+                                @Value("${chatgpt.bulkhead.callback-queue:1000}") int callbackQueue,
+                                @Value("${chatgpt.timeout.p99-multiplier:2.0}") double timeoutMultiplier,
+                                @Value("${chatgpt.timeout.min:5s}") Duration minTimeout,
+                                @Value("${chatgpt.total-timeout:60s}") Duration maxTimeout) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.callbackScheduler = Schedulers.newBoundedElastic(callbackThreads, callbackQueue, "chatbot-stream");
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.minTimeout = minTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    // 응답 전체에 적응형 제한 시간을 건다.
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            Duration limit = permit.probe ? maxTimeout : timeout(completionLatency);
+            long startedAt = System.nanoTime();
+            return call
+                    .timeout(limit, timedOut(completionLatency, limit, "GPT 응답 시간 초과"))
+                    .doOnSuccess(result -> {
+                        completionLatency.record(System.nanoTime() - startedAt);
+                        permit.succeed();
+                    })
+                    .doOnError(permit::fail)
+                    .doOnCancel(permit::abandon);
+        });
+    }
+
+    // 스트리밍은 첫 조각까지만 적응형 제한 시간을 건다. 이후 조각 사이 간격은 읽기 제한 시간이 맡는다.
+    public <T> Flux<T> protectStream(Flux<T> stream) {
+        return Flux.defer(() -> {
+            Permit permit = acquire();
+            Duration limit = permit.probe ? maxTimeout : timeout(firstTokenLatency);
+            long startedAt = System.nanoTime();
+            AtomicBoolean received = new AtomicBoolean();
+            return stream
+                    .timeout(Mono.delay(limit), item -> Mono.never(),
+                            timedOut(firstTokenLatency, limit, "GPT 첫 응답 시간 초과"))
+                    .doOnNext(item -> {
+                        if (received.compareAndSet(false, true)) firstTokenLatency.record(System.nanoTime() - startedAt);
+                    })
+                    .doOnComplete(permit::succeed)
+                    .doOnError(permit::fail)
+                    .doOnCancel(permit::abandon);
+        });
+    }
+
+    // 스트리밍 응답을 보내고 저장하는 블로킹 작업용. 공용 boundedElastic 과 분리한다.
+    public Scheduler callbackScheduler() {
+        return callbackScheduler;
+    }
+
+    public ChatgptUpstreamStatsResponse getStats() {
+        lock.lock();
+        try {
+            return ChatgptUpstreamStatsResponse.builder()
+                    .circuitState(state.name())
+                    .failureRate(outcomeCount == 0 ? 0 : (double) failureCount / outcomeCount)
+                    .inFlightCalls(maxConcurrentCalls - bulkhead.availablePermits())
+                    .rejectedCalls(rejectedCalls.sum())
+                    .completionTimeoutMillis(timeout(completionLatency).toMillis())
+                    .firstTokenTimeoutMillis(timeout(firstTokenLatency).toMillis())
+                    .completionP99Millis(TimeUnit.NANOSECONDS.toMillis(completionLatency.percentile(0.99)))
+                    .firstTokenP99Millis(TimeUnit.NANOSECONDS.toMillis(firstTokenLatency.percentile(0.99)))
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callbackScheduler.dispose();
+    }
+
+    // 구독하는 스레드에서 최대 maxWait 만큼 자리를 기다린다.
+    private Permit acquire() {
+        boolean probe = pass();
+        if (!tryAcquireBulkhead()) {
+            if (probe) abandonProbe();
+            rejectedCalls.increment();
+            throw new ChatgptUnavailableException("GPT 동시 호출 한도 초과");
+        }
+        return new Permit(probe);
+    }
+
+    private boolean tryAcquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 열린 상태에서 대기 시간이 지나면 시험 호출 한 건만 통과시킨다. 시험 호출이면 true.
+    private boolean pass() {
+        lock.lock();
+        try {
+            if (state == CircuitState.OPEN) {
+                if (System.nanoTime() - openedAt < openDurationNanos) throw reject("GPT 차단기 열림");
+                state = CircuitState.HALF_OPEN;
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (probing) throw reject("GPT 차단기 시험 호출 중");
+                probing = true;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean probe, boolean failed) {
+        lock.lock();
+        try {
+            if (probe) {
+                probing = false;
+                if (failed) open();
+                else close();
+                return;
+            }
+            // 차단기가 열리기 전에 시작한 호출의 결과는 반영하지 않는다.
+            if (state != CircuitState.CLOSED) return;
+
+            if (outcomeCount == outcomes.length) {
+                if (outcomes[nextOutcome]) failureCount--;
+            } else {
+                outcomeCount++;
+            }
+            outcomes[nextOutcome] = failed;
+            if (failed) failureCount++;
+            nextOutcome = (nextOutcome + 1) % outcomes.length;
+
+            if (outcomeCount >= minimumCalls && (double) failureCount / outcomeCount >= failureRateThreshold) open();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void abandonProbe() {
+        lock.lock();
+        try {
+            probing = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서 호출한다.
+    private void open() {
+        if (state != CircuitState.OPEN) log.warn("GPT 차단기 열림 (최근 실패 {}/{})", failureCount, outcomeCount);
+        state = CircuitState.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    // lock 안에서 호출한다.
+    private void close() {
+        log.info("GPT 차단기 닫힘");
+        state = CircuitState.CLOSED;
+        Arrays.fill(outcomes, false);
+        outcomeCount = 0;
+        nextOutcome = 0;
+        failureCount = 0;
+    }
+
+    private ChatgptUnavailableException reject(String message) {
+        rejectedCalls.increment();
+        return new ChatgptUnavailableException(message);
+    }
+
+    // 표본이 적을 때는 최대 제한 시간을 쓴다.
+    private Duration timeout(LatencyWindow latency) {
+        if (latency.size() < MIN_LATENCY_SAMPLES) return maxTimeout;
+        long nanos = (long) (latency.percentile(0.99) * timeoutMultiplier);
+        return Duration.ofNanos(Math.max(minTimeout.toNanos(), Math.min(maxTimeout.toNanos(), nanos)));
+    }
+
+    // 제한 시간에 걸린 호출은 적어도 제한 시간만큼 걸렸으므로 그 값으로 기록한다.
+    private static <T> Mono<T> timedOut(LatencyWindow latency, Duration limit, String message) {
+        return Mono.defer(() -> {
+            latency.record(limit.toNanos());
+            return Mono.error(new ChatgptUnavailableException(message));
+        });
+    }
+
+    // OpenAI 의 4xx(요청 오류)는 상류 장애가 아니므로 차단기에 반영하지 않는다. 429 는 과부하로 본다.
+    private static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof WebClientResponseException response)
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        return true;
+    }
+
+    private class Permit {
+
+        private final boolean probe;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Permit(boolean probe) {
+            this.probe = probe;
+        }
+
+        void succeed() {
+            finish(false);
+        }
+
+        void fail(Throwable error) {
+            finish(isUpstreamFailure(error));
+        }
+
+        // 클라이언트가 먼저 끊은 경우. 성공도 실패도 아니다.
+        void abandon() {
+            if (!finished.compareAndSet(false, true)) return;
+            bulkhead.release();
+            if (probe) abandonProbe();
+        }
+
+        private void finish(boolean failed) {
+            if (!finished.compareAndSet(false, true)) return;
+            bulkhead.release();
+            record(probe, failed);
+        }
+
+    }
+
+    // 최근 응답 시간 표본
+    private static class LatencyWindow {
+
+        private final long[] samples = new long[LATENCY_SAMPLES];
+        private int count;
+        private int next;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) count++;
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized long percentile(double percentile) {
+            if (count == 0) return 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)];
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.finfellows.domain.chatgpt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 답변 본문과 usage.total_tokens, usage.completion_tokens. usage 가 없으면 0
+public class ChatgptCompletion {
+    private String content;
+    private int totalTokens;
+    private int completionTokens;
+}
@@ -0,0 +1,24 @@
+package com.finfellows.domain.chatgpt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatgptUpstreamStatsResponse {
+    // CLOSED, OPEN, HALF_OPEN
+    private String circuitState;
+    // 최근 호출 중 실패 비율
+    private double failureRate;
+    private int inFlightCalls;
+    private long rejectedCalls;
+    // 현재 적용 중인 제한 시간. 일반 호출은 전체 응답, 스트리밍은 첫 조각까지
+    private long completionTimeoutMillis;
+    private long firstTokenTimeoutMillis;
+    private long completionP99Millis;
+    private long firstTokenP99Millis;
+}
@@ -0,0 +1,10 @@
+package com.finfellows.domain.chatgpt.exception;
+
+// 차단기가 열려 있거나, 동시 호출 한도를 넘었거나, 첫 응답이 제한 시간 안에 오지 않아 GPT 를 호출하지 못한 경우
+public class ChatgptUnavailableException extends RuntimeException {
+
+    public ChatgptUnavailableException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.comment.dto.response.AdmissionStatsResponse;
+import com.finfellows.global.cache.ExpiringCache;
+import com.finfellows.global.error.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// GPT 호출 앞단의 입장 제어.
+// 1. 사용자(비로그인은 IP)별 분당 토큰 예산을 넘으면 바로 거절한다.
+// 2. 동시 호출 수를 제한하고, 넘치는 요청은 로그인 사용자가 먼저 나가는 대기열에서 기다린다.
+// 3. 대기열이 가득 찼거나 오래 기다리면 Retry-After 와 함께 거절한다.
+@Component
+public class ChatbotAdmissionScheduler {
+
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long maxQueueWaitNanos;
+    private final int userTokensPerMinute;
+    private final int anonymousTokensPerMinute;
+
+    private final ExpiringCache<String, TokenWindow> budgets = new ExpiringCache<>(100_000, Duration.ofMinutes(2));
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(
+            Comparator.comparing((Waiter waiter) -> !waiter.authenticated).thenComparingLong(waiter -> waiter.sequence));
+    private int running;
+    private long sequence;
+
+    private final LongAdder admittedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder totalServiceNanos = new LongAdder();
+
+    public ChatbotAdmissionScheduler(@Value("${chatbot.admission.max-concurrent:8}") int maxConcurrent,
+                                     @Value("${chatbot.admission.queue-capacity:50}") int queueCapacity,
+                                     @Value("${chatbot.admission.max-queue-wait:10s}") Duration maxQueueWait,
+                                     @Value("${chatbot.admission.user-tokens-per-minute:6000}") int userTokensPerMinute,
+                                     @Value("${chatbot.admission.anonymous-tokens-per-minute:3000}") int anonymousTokensPerMinute) {
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.userTokensPerMinute = userTokensPerMinute;
+        this.anonymousTokensPerMinute = anonymousTokensPerMinute;
+    }
+
+    // estimatedTokens 만큼 예산을 먼저 잡아 두고, 호출이 끝나면 Ticket.release 로 실제 사용량을 반영한다.
+    public Ticket admit(String clientKey, boolean authenticated, int estimatedTokens) {
+        TokenWindow window = budgetOf(clientKey);
+        long retryAfterSeconds = window.reserve(estimatedTokens, authenticated ? userTokensPerMinute : anonymousTokensPerMinute);
+        if (retryAfterSeconds > 0) throw reject(retryAfterSeconds);
+
+        try {
+            acquireSlot(authenticated);
+        } catch (TooManyRequestsException e) {
+            window.adjust(-estimatedTokens);
+            throw e;
+        }
+        admittedCount.increment();
+        return new Ticket(window, estimatedTokens);
+    }
+
+    public AdmissionStatsResponse getStats() {
+        lock.lock();
+        try {
+            long admitted = admittedCount.sum();
+            return AdmissionStatsResponse.builder()
+                    .running(running)
+                    .queueDepth(waiting.size())
+                    .admittedCount(admitted)
+                    .rejectedCount(rejectedCount.sum())
+                    .averageWaitMillis(admitted == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum() / admitted))
+                    .maxWaitMillis(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()))
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TokenWindow budgetOf(String clientKey) {
+        lock.lock();
+        try {
+            TokenWindow window = budgets.get(clientKey);
+            if (window == null) {
+                window = new TokenWindow();
+                budgets.put(clientKey, window);
+            }
+            return window;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquireSlot(boolean authenticated) {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (running < maxConcurrent && waiting.isEmpty()) {
+                running++;
+                recordWait(0);
+                return;
+            }
+            if (waiting.size() >= queueCapacity) throw reject(estimateRetryAfterSeconds());
+
+            Waiter waiter = new Waiter(authenticated, sequence++, lock.newCondition());
+            waiting.add(waiter);
+            long remaining = maxQueueWaitNanos;
+            try {
+                while (!waiter.granted) {
+                    if (remaining <= 0) {
+                        waiting.remove(waiter);
+                        throw reject(estimateRetryAfterSeconds());
+                    }
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!waiter.granted) {
+                    waiting.remove(waiter);
+                    throw reject(estimateRetryAfterSeconds());
+                }
+            }
+            recordWait(System.nanoTime() - startedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대기 중인 요청이 있으면 슬롯을 그대로 넘겨준다.
+    private void releaseSlot(long serviceNanos) {
+        completedCount.increment();
+        totalServiceNanos.add(serviceNanos);
+
+        lock.lock();
+        try {
+            Waiter next = waiting.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+            next.granted = true;
+            next.condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 앞선 대기열이 평균 처리 시간만큼씩 빠진다고 보고 계산한다. lock 안에서 호출한다.
+    private long estimateRetryAfterSeconds() {
+        long completed = completedCount.sum();
+        long averageServiceNanos = completed == 0 ? TimeUnit.SECONDS.toNanos(5) : totalServiceNanos.sum() / completed;
+        long aheadNanos = (waiting.size() + 1) * averageServiceNanos / Math.max(1, maxConcurrent);
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(aheadNanos));
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private TooManyRequestsException reject(long retryAfterSeconds) {
+        rejectedCount.increment();
+        return new TooManyRequestsException(retryAfterSeconds);
+    }
+
+    public class Ticket {
+
+        private final TokenWindow window;
+        private final int reservedTokens;
+        private final long admittedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Ticket(TokenWindow window, int reservedTokens) {
+            this.window = window;
+            this.reservedTokens = reservedTokens;
+        }
+
+        // usedTokens 가 0 이하이면(usage 를 모르는 경우) 예약한 만큼 쓴 것으로 본다.
+        public void release(int usedTokens) {
+            if (!released.compareAndSet(false, true)) return;
+            if (usedTokens > 0) window.adjust(usedTokens - reservedTokens);
+            releaseSlot(System.nanoTime() - admittedAt);
+        }
+
+    }
+
+    private static class Waiter {
+
+        private final boolean authenticated;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(boolean authenticated, long sequence, Condition condition) {
+            this.authenticated = authenticated;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+
+    }
+
+    // 1분 고정 창의 토큰 사용량
+    private static class TokenWindow {
+
+        private long startedAt = System.currentTimeMillis();
+        private int usedTokens;
+
+        // 예산 안이면 0, 넘으면 창이 끝날 때까지 남은 초. 창의 첫 요청은 예산보다 커도 받는다.
+        synchronized long reserve(int tokens, int limit) {
+            long now = System.currentTimeMillis();
+            if (now - startedAt >= WINDOW_MILLIS) {
+                startedAt = now;
+                usedTokens = 0;
+            }
+            if (usedTokens > 0 && usedTokens + tokens > limit)
+                return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(startedAt + WINDOW_MILLIS - now + 999));
+            usedTokens += tokens;
+            return 0;
+        }
+
+        synchronized void adjust(int delta) {
+            usedTokens = Math.max(0, usedTokens + delta);
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.comment.dto.response.AnswerCacheStatsResponse;
+import com.finfellows.global.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+// 같은 의미의 질문은 GPT 를 다시 호출하지 않도록 정규화한 질문으로 답변을 캐시한다.
+// 키에는 프롬프트/모델 설정의 해시가 붙으므로 설정이 바뀌면 이전 답변은 자연히 쓰이지 않는다.
+@Component
+public class ChatbotAnswerCache {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\p{Punct}\\p{IsPunctuation}\\s]+");
+
+    // 두 음절 이상 조사만 뗀다. 한 음절 조사(이/가/도/과 ...)는 명사 끝과 구별되지 않아
+    // 한도→한, 주가→주, 효과→효 처럼 다른 질문을 같은 키로 만든다.
+    private static final List<String> PARTICLES = List.of(
+            "이에요", "이란", "에서", "으로", "에게", "한테", "까지", "부터", "처럼", "보다", "이야", "예요"
+    );
+
+    private final ExpiringCache<String, String> answers;
+
+    public ChatbotAnswerCache(@Value("${chatbot.answer-cache.max-size:1000}") int maximumSize,
+                              @Value("${chatbot.answer-cache.ttl:6h}") Duration timeToLive) {
+        this.answers = new ExpiringCache<>(maximumSize, timeToLive);
+    }
+
+    public String get(String key) {
+        return answers.get(key);
+    }
+
+    public void put(String key, String answer) {
+        answers.put(key, answer);
+    }
+
+    public void purge() {
+        answers.invalidateAll();
+    }
+
+    public AnswerCacheStatsResponse getStats() {
+        return AnswerCacheStatsResponse.builder()
+                .size(answers.size())
+                .hitCount(answers.getHitCount())
+                .missCount(answers.getMissCount())
+                .build();
+    }
+
+    // settingsFingerprint 는 fingerprint(프롬프트 가이드와 모델 설정)
+    public static String key(String question, String settingsFingerprint) {
+        return normalize(question) + ":" + settingsFingerprint;
+    }
+
+    public static String fingerprint(String settings) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(settings.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 공백/문장부호/대소문자를 무시하고 어절 끝의 조사를 떼어 낸다. "적금이란 뭐야?" == "적금 뭐야"
+    // 어절은 공백 하나로 이어 붙여 "한 도"와 "한도"가 섞이지 않게 한다.
+    static String normalize(String question) {
+        String normalized = Normalizer.normalize(question == null ? "" : question, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+
+        StringJoiner key = new StringJoiner(" ");
+        for (String word : SEPARATORS.split(normalized)) {
+            if (!word.isEmpty()) key.add(stripParticle(word));
+        }
+        return key.toString();
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            if (word.length() > particle.length() && word.endsWith(particle))
+                return word.substring(0, word.length() - particle.length());
+        }
+        return word;
+    }
+
+}
@@ -0,0 +1,456 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.chatgpt.config.ChatgptConfig;
+import com.finfellows.domain.chatgpt.domain.ChatGptMessage;
+import com.finfellows.domain.comment.dto.response.CatalogRetrievalResponse;
+import com.finfellows.domain.educontent.application.EduContentSearchIndex;
+import com.finfellows.domain.policyinfo.domain.PolicyInfo;
+import com.finfellows.domain.policyinfo.domain.PolicyInfoChangedEvent;
+import com.finfellows.domain.policyinfo.domain.repository.PolicyInfoRepository;
+import com.finfellows.domain.product.domain.BankChangedEvent;
+import com.finfellows.domain.product.domain.CMA;
+import com.finfellows.domain.product.domain.FinancialProductBestOption;
+import com.finfellows.domain.product.domain.FinancialProductChangedEvent;
+import com.finfellows.domain.product.domain.FinancialProductType;
+import com.finfellows.domain.product.domain.InterestRateSortType;
+import com.finfellows.domain.product.domain.ProductCatalogChangedEvent;
+import com.finfellows.domain.product.domain.repository.CmaRepository;
+import com.finfellows.domain.product.domain.repository.FinancialProductBestOptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// 챗봇 답변이 우리 서비스의 상품/정책 데이터에 근거하도록 GPT 호출 전에 관련 항목을 찾아 붙인다.
+// 예금/적금 대표 옵션, CMA, 정책 정보를 한 줄 요약으로 메모리 색인에 올려 두고,
+// 질문과 관련된 상위 몇 건을 system 메시지 하나로 만들어 질문 바로 앞에 넣는다. 붙이는 토큰은 max-tokens 를 넘지 않는다.
+// 1. 금리를 묻는 질문(예: "적금 금리 높은 거")은 물어본 상품 종류 안에서 금리순으로 고른다. 은행명이 있으면 그 은행으로 좁힌다.
+// 2. 그 밖의 질문은 BM25 점수로 고르고, 확신도가 낮으면 아무것도 붙이지 않는다.
+// 데이터가 바뀌면 커밋 이후 색인을 다시 만들고, 공시 데이터처럼 외부에서 적재되는 경우를 위해 주기적으로도 다시 만든다.
+@Slf4j
+@Component
+public class ChatbotCatalogRetriever {
+
+    private static final String HEADER = "아래는 우리 서비스에 등록된 상품/정책 정보야. 질문과 관련 있으면 이 정보를 우선해서 답하고, 여기 없는 금리나 조건은 지어내지 마.";
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 상품명/정책명에 나온 단어는 설명보다 무겁게 센다.
+    private static final int NAME_WEIGHT = 3;
+    private static final int POLICY_SUMMARY_LENGTH = 60;
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparing(Entry::kind)
+            .thenComparing(Entry::line)
+            .thenComparing(Entry::name);
+
+    private static final List<String> RATE_KEYWORDS = List.of("금리", "이자", "이율", "높은", "좋은", "최고", "제일", "가장", "추천");
+
+    enum Kind {
+        DEPOSIT("예금", List.of("예금")),
+        SAVING("적금", List.of("적금")),
+        CMA("CMA", List.of("cma")),
+        POLICY("정책", List.of("정책", "지원금", "청년", "수당", "장려금", "바우처"));
+
+        private final String label;
+        private final List<String> keywords;
+
+        Kind(String label, List<String> keywords) {
+            this.label = label;
+            this.keywords = keywords;
+        }
+
+        boolean isProduct() {
+            return this != POLICY;
+        }
+    }
+
+    private final FinancialProductBestOptionRepository financialProductBestOptionRepository;
+    private final CmaRepository cmaRepository;
+    private final PolicyInfoRepository policyInfoRepository;
+    private final boolean enabled;
+    private final int topK;
+    private final int maxTokens;
+    private final double minConfidence;
+    private final long refreshIntervalMillis;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chatbot-catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+    // 적재 중 DB 조회를 기다리므로 synchronized 대신 ReentrantLock 을 쓴다.
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final AtomicLong versions = new AtomicLong();
+
+    private volatile Catalog catalog;
+
+    public ChatbotCatalogRetriever(FinancialProductBestOptionRepository financialProductBestOptionRepository,
+                                   CmaRepository cmaRepository,
+                                   PolicyInfoRepository policyInfoRepository,
+                                   @Value("${chatbot.retrieval.enabled:true}") boolean enabled,
+                                   @Value("${chatbot.retrieval.top-k:5}") int topK,
+                                   @Value("${chatbot.retrieval.max-tokens:300}") int maxTokens,
+                                   @Value("${chatbot.retrieval.min-confidence:0.3}") double minConfidence,
+                                   @Value("${chatbot.retrieval.refresh-interval:10m}") Duration refreshInterval) {
+        this.financialProductBestOptionRepository = financialProductBestOptionRepository;
+        this.cmaRepository = cmaRepository;
+        this.policyInfoRepository = policyInfoRepository;
+        this.enabled = enabled;
+        this.topK = topK;
+        this.maxTokens = maxTokens;
+        this.minConfidence = minConfidence;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+    }
+
+    // catalogVersion 은 답변 캐시 키에 넣어, 데이터가 바뀐 뒤에는 이전 근거로 만든 답변을 쓰지 않게 한다.
+    public record Grounding(ChatGptMessage message, int entryCount, int tokens, long catalogVersion) {
+    }
+
+    public Optional<Grounding> retrieve(String question) {
+        if (!enabled || maxTokens <= 0 || topK <= 0 || question == null || question.isBlank()) return Optional.empty();
+
+        Catalog current = catalog();
+        List<Entry> selected = select(current, question);
+        if (selected.isEmpty()) return Optional.empty();
+
+        StringBuilder content = new StringBuilder(HEADER);
+        int tokens = ChatbotConversation.estimateTokens(message(HEADER));
+        int count = 0;
+        for (Entry entry : selected) {
+            int cost = ChatbotConversation.estimateTokens("\n" + entry.line());
+            if (tokens + cost > maxTokens) break;
+            content.append('\n').append(entry.line());
+            tokens += cost;
+            count++;
+        }
+        if (count == 0) return Optional.empty();
+        return Optional.of(new Grounding(message(content.toString()), count, tokens, current.version()));
+    }
+
+    // 근거 메시지를 마지막(이번 질문) 바로 앞에 넣은 새 목록을 돌려준다.
+    public static List<ChatGptMessage> inject(List<ChatGptMessage> messages, Grounding grounding) {
+        List<ChatGptMessage> grounded = new ArrayList<>(messages.size() + 1);
+        grounded.addAll(messages.subList(0, messages.size() - 1));
+        grounded.add(grounding.message());
+        grounded.add(messages.get(messages.size() - 1));
+        return grounded;
+    }
+
+    public CatalogRetrievalResponse explain(String question) {
+        Catalog current = catalog();
+        Optional<Grounding> grounding = retrieve(question);
+        return CatalogRetrievalResponse.builder()
+                .catalogSize(current.entries().size())
+                .catalogVersion(current.version())
+                .entryCount(grounding.map(Grounding::entryCount).orElse(0))
+                .injectedTokens(grounding.map(Grounding::tokens).orElse(0))
+                .maxTokens(maxTokens)
+                .context(grounding.map(found -> found.message().getContent()).orElse(null))
+                .build();
+    }
+
+    // 내용이 그대로면 버전을 유지해, 주기적인 재구성 때문에 답변 캐시가 비워지지 않게 한다.
+    public void rebuild() {
+        buildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            List<Entry> entries = new ArrayList<>();
+            for (FinancialProductBestOption option : financialProductBestOptionRepository.findAll()) {
+                if (option.getSortType() != InterestRateSortType.DEFAULT) continue;
+                Kind kind = option.getFinancialProductType() == FinancialProductType.SAVING ? Kind.SAVING
+                        : option.getFinancialProductType() == FinancialProductType.DEPOSIT ? Kind.DEPOSIT : null;
+                if (kind != null) entries.add(productEntry(kind, option));
+            }
+            cmaRepository.findAll().forEach(cma -> entries.add(cmaEntry(cma)));
+            policyInfoRepository.findAll().forEach(policyInfo -> entries.add(policyEntry(policyInfo)));
+            // 조회 순서와 관계없이 같은 내용이면 같은 색인(과 내용 해시)이 되도록 정렬한다.
+            entries.sort(ENTRY_ORDER);
+
+            int contentHash = contentHash(entries);
+            Catalog previous = catalog;
+            boolean changed = previous == null || previous.contentHash() != contentHash;
+            long version = changed ? versions.incrementAndGet() : previous.version();
+            catalog = new Catalog(entries, contentHash, version, System.currentTimeMillis());
+            log.info("챗봇 카탈로그 색인 완료 ({}건, 버전 {}{}, {}ms)", entries.size(), version, changed ? "" : " 유지",
+                    System.currentTimeMillis() - start);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private static int contentHash(List<Entry> entries) {
+        int hash = 1;
+        for (Entry entry : entries) {
+            hash = 31 * hash + entry.contentHash();
+        }
+        return hash;
+    }
+
+    // 연속된 변경은 한 번의 재구성으로 합친다.
+    public void requestRebuild() {
+        if (!rebuildRequested.compareAndSet(false, true)) return;
+
+        rebuildExecutor.execute(() -> {
+            rebuildRequested.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("챗봇 카탈로그 색인 실패", e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) requestRebuild();
+    }
+
+    // 대표 옵션은 같은 이벤트로 다시 계산되므로 비동기로 조금 늦게 반영한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFinancialProductChanged(FinancialProductChangedEvent event) {
+        if (enabled) requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductCatalogChanged(ProductCatalogChangedEvent event) {
+        if (enabled) requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChanged(BankChangedEvent event) {
+        if (enabled) requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyInfoChanged(PolicyInfoChangedEvent event) {
+        if (enabled) requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 아직 색인이 없으면 직접 만들고, 오래된 색인은 그대로 쓰면서 뒤에서 다시 만든다.
+    private Catalog catalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            buildLock.lock();
+            try {
+                if (catalog == null) rebuild();
+                current = catalog;
+            } finally {
+                buildLock.unlock();
+            }
+        } else if (System.currentTimeMillis() - current.builtAt() > refreshIntervalMillis) {
+            requestRebuild();
+        }
+        return current;
+    }
+
+    private List<Entry> select(Catalog current, String question) {
+        String normalized = normalize(question);
+        Set<Kind> kinds = EnumSet.noneOf(Kind.class);
+        for (Kind kind : Kind.values()) {
+            if (kind.keywords.stream().anyMatch(normalized::contains)) kinds.add(kind);
+        }
+        boolean rateIntent = RATE_KEYWORDS.stream().anyMatch(normalized::contains);
+
+        Set<Kind> productKinds = kinds.stream().filter(Kind::isProduct).collect(Collectors.toCollection(() -> EnumSet.noneOf(Kind.class)));
+        LinkedHashSet<Entry> selected = new LinkedHashSet<>();
+        if (rateIntent && !productKinds.isEmpty()) {
+            selected.addAll(byRate(current, productKinds, normalized));
+            kinds.removeAll(productKinds);
+            if (kinds.isEmpty()) return limit(selected);
+        }
+        selected.addAll(current.search(question, kinds.isEmpty() ? EnumSet.allOf(Kind.class) : kinds, minConfidence, topK));
+        return limit(selected);
+    }
+
+    // 질문에 나온 은행이 있으면 그 은행 상품만, 없으면 전체에서 최고 금리순
+    private List<Entry> byRate(Catalog current, Set<Kind> kinds, String normalizedQuestion) {
+        String compactQuestion = normalizedQuestion.replace(" ", "");
+        List<Entry> candidates = current.entries().stream()
+                .filter(entry -> kinds.contains(entry.kind()) && entry.rate() != null)
+                .toList();
+        List<Entry> sameBank = candidates.stream()
+                .filter(entry -> mentionsBank(compactQuestion, entry.bankName()))
+                .toList();
+        return (sameBank.isEmpty() ? candidates : sameBank).stream()
+                .sorted(Comparator.comparing(Entry::rate).reversed().thenComparing(Entry::name))
+                .limit(topK)
+                .toList();
+    }
+
+    // "국민은행" 은 "국민" 만 써도 같은 은행으로 본다.
+    private static boolean mentionsBank(String compactQuestion, String bankName) {
+        if (bankName == null) return false;
+        String compactBank = normalize(bankName).replace(" ", "");
+        if (compactBank.isEmpty()) return false;
+        if (compactQuestion.contains(compactBank)) return true;
+        String shortName = compactBank.endsWith("은행") ? compactBank.substring(0, compactBank.length() - 2) : compactBank;
+        return shortName.length() >= 2 && compactQuestion.contains(shortName);
+    }
+
+    private List<Entry> limit(LinkedHashSet<Entry> selected) {
+        return selected.stream().limit(topK).toList();
+    }
+
+    private static Entry productEntry(Kind kind, FinancialProductBestOption option) {
+        BigDecimal rate = option.getMaximumPreferredInterestRateValue() != null
+                ? option.getMaximumPreferredInterestRateValue() : option.getInterestRateValue();
+        StringBuilder line = new StringBuilder(prefix(kind, option.getBankName(), option.getProductName()));
+        line.append(": 기본 ").append(percent(option.getInterestRateValue()))
+                .append(", 최고 ").append(percent(option.getMaximumPreferredInterestRateValue()));
+        if (option.getSavingsTerm() != null) line.append(" (").append(option.getSavingsTerm()).append("개월)");
+        return Entry.of(kind, option.getBankName(), option.getProductName(), line.toString(), rate, kind.label);
+    }
+
+    private static Entry cmaEntry(CMA cma) {
+        String line = prefix(Kind.CMA, cma.getBankName(), cma.getProductName())
+                + (cma.getCmaType() != null ? "(" + cma.getCmaType() + ")" : "")
+                + ": 금리 " + percent(cma.getMaturityInterestRateValue());
+        return Entry.of(Kind.CMA, cma.getBankName(), cma.getProductName(), line, cma.getMaturityInterestRateValue(),
+                Kind.CMA.label + " " + Objects.toString(cma.getCmaType(), ""));
+    }
+
+    private static Entry policyEntry(PolicyInfo policyInfo) {
+        String support = truncate(policyInfo.getSporCn());
+        StringBuilder line = new StringBuilder("[" + Kind.POLICY.label + "] " + policyInfo.getPolyBizSjNm());
+        if (!support.isEmpty()) line.append(": ").append(support);
+        if (policyInfo.getAgeInfo() != null && !policyInfo.getAgeInfo().isBlank())
+            line.append(" (").append(policyInfo.getAgeInfo().strip()).append(")");
+        return Entry.of(Kind.POLICY, null, policyInfo.getPolyBizSjNm(), line.toString(), null,
+                Objects.toString(policyInfo.getPolyItcnCn(), "") + " " + Objects.toString(policyInfo.getSporCn(), ""));
+    }
+
+    private static String prefix(Kind kind, String bankName, String productName) {
+        return "[" + kind.label + "] " + (bankName != null ? bankName + " " : "") + productName;
+    }
+
+    private static String percent(BigDecimal rate) {
+        return rate == null ? "-" : rate.stripTrailingZeros().toPlainString() + "%";
+    }
+
+    private static String truncate(String text) {
+        if (text == null) return "";
+        String collapsed = text.replaceAll("\\s+", " ").strip();
+        return collapsed.length() <= POLICY_SUMMARY_LENGTH ? collapsed : collapsed.substring(0, POLICY_SUMMARY_LENGTH) + "…";
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static ChatGptMessage message(String content) {
+        return ChatGptMessage.builder()
+                .role(ChatgptConfig.SYSTEM_ROLE)
+                .content(content)
+                .build();
+    }
+
+    private record Entry(Kind kind, String bankName, String name, String line, BigDecimal rate,
+                         Map<String, Integer> terms, int length) {
+
+        private static Entry of(Kind kind, String bankName, String name, String line, BigDecimal rate, String description) {
+            Map<String, Integer> terms = EduContentSearchIndex.termFrequencies(description, null);
+            EduContentSearchIndex.termFrequencies(bankName, terms);
+            EduContentSearchIndex.termFrequencies(name, null)
+                    .forEach((term, frequency) -> terms.merge(term, frequency * NAME_WEIGHT, Integer::sum));
+            int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+            return new Entry(kind, bankName, name == null ? "" : name, line, rate, terms, length);
+        }
+
+        // 같은 항목은 색인 안에 한 객체뿐이므로 terms 까지 비교하지 않고 동일성으로 비교한다.
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        // 근거 문구와 검색 결과에 영향을 주는 값만 모은다.
+        private int contentHash() {
+            return Objects.hash(kind, bankName, name, line, rate, terms);
+        }
+    }
+
+    // 한 번 만든 뒤 바뀌지 않는 색인. 교체는 참조를 통째로 바꾼다.
+    private record Catalog(List<Entry> entries, Map<String, Map<Integer, Integer>> postings, double averageLength,
+                           int contentHash, long version, long builtAt) {
+
+        private Catalog(List<Entry> entries, int contentHash, long version, long builtAt) {
+            this(List.copyOf(entries), postings(entries), entries.stream().mapToInt(Entry::length).average().orElse(0),
+                    contentHash, version, builtAt);
+        }
+
+        private static Map<String, Map<Integer, Integer>> postings(List<Entry> entries) {
+            Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+            for (int i = 0; i < entries.size(); i++) {
+                int index = i;
+                entries.get(i).terms().forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, key -> new HashMap<>()).put(index, frequency));
+            }
+            return postings;
+        }
+
+        // confidence 는 EduContentSearchIndex 와 같이 질문의 모든 단어가 한 번씩 나올 때를 1 로 본 점수 비율
+        private List<Entry> search(String question, Set<Kind> kinds, double minConfidence, int limit) {
+            Map<String, Integer> queryTerms = EduContentSearchIndex.termFrequencies(question, null);
+            if (queryTerms.isEmpty() || entries.isEmpty()) return List.of();
+
+            int documentCount = entries.size();
+            double fullMatchScore = 0;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : queryTerms.keySet()) {
+                Map<Integer, Integer> posting = postings.getOrDefault(term, Map.of());
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                fullMatchScore += idf;
+
+                posting.forEach((index, frequency) -> {
+                    Entry entry = entries.get(index);
+                    if (!kinds.contains(entry.kind())) return;
+                    double lengthNorm = 1 - B + B * entry.length() / averageLength;
+                    scores.merge(index, idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm), Double::sum);
+                });
+            }
+
+            double threshold = minConfidence * fullMatchScore;
+            return scores.entrySet().stream()
+                    .filter(score -> score.getValue() >= threshold)
+                    .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed().thenComparing(Map.Entry.<Integer, Double>comparingByKey()))
+                    .limit(limit)
+                    .map(score -> entries.get(score.getKey()))
+                    .toList();
+        }
+    }
+
+}
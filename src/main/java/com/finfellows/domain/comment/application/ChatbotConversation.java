@@ -0,0 +1,138 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.chatgpt.config.ChatgptConfig;
+import com.finfellows.domain.chatgpt.domain.ChatGptMessage;
+import com.finfellows.domain.comment.domain.repository.CommentRepository;
+import com.finfellows.domain.comment.dto.response.CommentListResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+// GPT 에 보낼 대화 맥락을 만든다.
+// 가이드는 매번 같은 system 메시지로 보내고, 최근 대화는 입력 토큰 예산 안에서 최신 것부터 채운다.
+// 예산을 넘는 이전 대화는 질문만 한 줄로 요약해 붙인다.
+@Component
+public class ChatbotConversation {
+
+    static final String GUIDE =
+            "너는 지금 청년들의 금융 지식을 향상시켜주기 위한 챗봇이야. 너의 이름은 '금토리'야. 너는 캐릭터의 역할이기 때문에 텍스트 형식으로 답변을 해야 해. 언어는 한국어로 말해야 하고, 말투는 친구한테 말하는 것처럼 반발로 해." +
+                    "그리고 금융, 투자, 자산, 저축, 은행, 돈에 관련된 답변만 해야 하고, 만약 금융과 관련이 없는 질문이면 '미안해. 금융과 관련되지 않은 질문은 답변해줄 수 없어.'라고 말하면 돼. " +
+                    "실제로 사용자와 대화하듯이 말해야 하고, 바로 질문에 대한 답을 해. 상식적으로 알 수도 있다는 말은 하지 마." +
+                    "'네'라는 대답은 하지마. 인사말도 하지 마. 그리고 최대한 자세하게 답변해. 다시 한 번 말하지만, 반말로 말해. 그리고 문장은 끝까지 완전한 형태로 말 해. 답변 길이는 3줄 분량보다 넘지 마.";
+
+    private static final ChatGptMessage GUIDE_MESSAGE = ChatGptMessage.builder()
+            .role(ChatgptConfig.SYSTEM_ROLE)
+            .content(GUIDE)
+            .build();
+    private static final int GUIDE_TOKENS = estimateTokens(GUIDE_MESSAGE);
+
+    private static final String SUMMARY_PREFIX = "이전에 사용자가 물어본 내용: ";
+
+    // 메시지마다 role 과 구분자에 드는 토큰
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private final CommentRepository commentRepository;
+    private final int inputTokenBudget;
+    private final int maxTurns;
+
+    public ChatbotConversation(CommentRepository commentRepository,
+                               @Value("${chatbot.context.input-token-budget:1500}") int inputTokenBudget,
+                               @Value("${chatbot.context.max-turns:10}") int maxTurns) {
+        this.commentRepository = commentRepository;
+        this.inputTokenBudget = inputTokenBudget;
+        this.maxTurns = maxTurns;
+    }
+
+    // [가이드, (요약), 이전 질문/답변..., 이번 질문]. 비로그인 사용자는 이전 대화가 없다.
+    public List<ChatGptMessage> build(Long userId, String question) {
+        ChatGptMessage questionMessage = message(ChatgptConfig.ROLE, question);
+        int budget = inputTokenBudget - GUIDE_TOKENS - estimateTokens(questionMessage);
+
+        LinkedList<ChatGptMessage> turns = new LinkedList<>();
+        List<String> olderQuestions = new ArrayList<>();
+        if (userId != null && budget > 0 && maxTurns > 0) {
+            for (CommentListResponse turn : commentRepository.findLatestComments(userId, PageRequest.of(0, maxTurns))) {
+                // 인사말 행은 건너뛴다.
+                if (turn.getQuestion() == null || turn.getAnswer() == null) continue;
+
+                ChatGptMessage asked = message(ChatgptConfig.ROLE, turn.getQuestion());
+                ChatGptMessage answered = message(ChatgptConfig.ASSISTANT_ROLE, turn.getAnswer());
+                int cost = estimateTokens(asked) + estimateTokens(answered);
+                // 한 번 예산을 넘으면 그보다 오래된 대화는 모두 요약으로 보낸다.
+                if (olderQuestions.isEmpty() && cost <= budget) {
+                    turns.addFirst(answered);
+                    turns.addFirst(asked);
+                    budget -= cost;
+                } else {
+                    olderQuestions.add(0, turn.getQuestion());
+                }
+            }
+        }
+
+        List<ChatGptMessage> messages = new ArrayList<>(turns.size() + 3);
+        messages.add(GUIDE_MESSAGE);
+        ChatGptMessage summary = summarize(olderQuestions, budget);
+        if (summary != null) messages.add(summary);
+        messages.addAll(turns);
+        messages.add(questionMessage);
+        return messages;
+    }
+
+    // 이전 대화 없이 질문만 보내는 경우. 이때의 답변만 다른 사용자와 공유(캐시)할 수 있다.
+    public static boolean isStandalone(List<ChatGptMessage> messages) {
+        return messages.size() == 2;
+    }
+
+    // 한글 등 비 ASCII 문자는 글자당 1토큰, ASCII 는 4글자당 1토큰으로 어림한다.
+    public static int estimateTokens(String text) {
+        if (text == null) return 0;
+        int tokens = 0;
+        int ascii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) ascii++;
+            else tokens++;
+        }
+        return tokens + (ascii + 3) / 4;
+    }
+
+    public static int estimateTokens(ChatGptMessage message) {
+        return MESSAGE_OVERHEAD_TOKENS + estimateTokens(message.getContent());
+    }
+
+    public static int estimateTokens(List<ChatGptMessage> messages) {
+        int tokens = 0;
+        for (ChatGptMessage message : messages) {
+            tokens += estimateTokens(message);
+        }
+        return tokens;
+    }
+
+    // 남은 예산 안에서 최근 질문부터 채우고, 넘치는 오래된 질문은 버린다.
+    private static ChatGptMessage summarize(List<String> olderQuestions, int budget) {
+        int remaining = budget - MESSAGE_OVERHEAD_TOKENS - estimateTokens(SUMMARY_PREFIX);
+        if (olderQuestions.isEmpty() || remaining <= 0) return null;
+
+        LinkedList<String> kept = new LinkedList<>();
+        for (int i = olderQuestions.size() - 1; i >= 0; i--) {
+            String question = olderQuestions.get(i);
+            int cost = estimateTokens(question) + 1;
+            if (cost > remaining) break;
+            kept.addFirst(question);
+            remaining -= cost;
+        }
+        if (kept.isEmpty()) return null;
+        return message(ChatgptConfig.SYSTEM_ROLE, SUMMARY_PREFIX + String.join(" / ", kept));
+    }
+
+    private static ChatGptMessage message(String role, String content) {
+        return ChatGptMessage.builder()
+                .role(role)
+                .content(content)
+                .build();
+    }
+
+}
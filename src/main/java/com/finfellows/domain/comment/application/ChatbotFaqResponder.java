@@ -0,0 +1,115 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.comment.dto.request.FaqEvaluationRequest;
+import com.finfellows.domain.comment.dto.response.CommentResponse;
+import com.finfellows.domain.comment.dto.response.FaqEvaluationResponse;
+import com.finfellows.domain.educontent.application.EduContentSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// 교육콘텐츠와 확실히 맞는 질문은 GPT 를 부르지 않고 콘텐츠 요약과 링크로 바로 답한다.
+// 점수가 기준에 못 미치거나 1, 2위 점수가 비슷해 애매하면 GPT 로 넘긴다.
+@Component
+public class ChatbotFaqResponder {
+
+    private static final String LINK_PREFIX = "/api/learn/edu/";
+    private static final int SUMMARY_LENGTH = 200;
+
+    private final EduContentSearchIndex eduContentSearchIndex;
+    private final double minConfidence;
+    private final double maxRunnerUpRatio;
+
+    public ChatbotFaqResponder(EduContentSearchIndex eduContentSearchIndex,
+                               @Value("${chatbot.faq.min-confidence:0.6}") double minConfidence,
+                               @Value("${chatbot.faq.max-runner-up-ratio:0.9}") double maxRunnerUpRatio) {
+        this.eduContentSearchIndex = eduContentSearchIndex;
+        this.minConfidence = minConfidence;
+        this.maxRunnerUpRatio = maxRunnerUpRatio;
+    }
+
+    public Optional<CommentResponse> answer(String question) {
+        return match(question).map(hit -> CommentResponse.builder()
+                .answer(summarize(hit.content()) + " 자세한 내용은 '" + hit.title() + "' 콘텐츠에서 확인해 봐!")
+                .eduContentId(hit.eduContentId())
+                .link(LINK_PREFIX + hit.eduContentId())
+                .matchScore(hit.confidence())
+                .build());
+    }
+
+    public List<EduContentSearchIndex.SearchHit> search(String question, int limit) {
+        return eduContentSearchIndex.search(question, limit);
+    }
+
+    // 현재 기준값으로 질문 목록을 돌려 정확도와 매칭 지연 시간을 잰다.
+    public FaqEvaluationResponse evaluate(List<FaqEvaluationRequest> cases) {
+        int correct = 0;
+        int wrongMatches = 0;
+        int missed = 0;
+        long[] elapsedNanos = new long[cases.size()];
+
+        for (int i = 0; i < cases.size(); i++) {
+            FaqEvaluationRequest evaluationCase = cases.get(i);
+            long start = System.nanoTime();
+            Long matchedId = match(evaluationCase.getQuestion()).map(EduContentSearchIndex.SearchHit::eduContentId).orElse(null);
+            elapsedNanos[i] = System.nanoTime() - start;
+
+            if (Objects.equals(matchedId, evaluationCase.getExpectedEduContentId())) correct++;
+            else if (matchedId != null) wrongMatches++;
+            else missed++;
+        }
+
+        Arrays.sort(elapsedNanos);
+        return FaqEvaluationResponse.builder()
+                .minConfidence(minConfidence)
+                .total(cases.size())
+                .correct(correct)
+                .wrongMatches(wrongMatches)
+                .missed(missed)
+                .accuracy(cases.isEmpty() ? 0 : (double) correct / cases.size())
+                .averageMicros(Arrays.stream(elapsedNanos).average().orElse(0) / 1_000)
+                .p95Micros(elapsedNanos.length == 0 ? 0 : elapsedNanos[(int) Math.ceil(elapsedNanos.length * 0.95) - 1] / 1_000)
+                .build();
+    }
+
+    private Optional<EduContentSearchIndex.SearchHit> match(String question) {
+        List<EduContentSearchIndex.SearchHit> hits = eduContentSearchIndex.search(question, 2);
+        if (hits.isEmpty()) return Optional.empty();
+
+        EduContentSearchIndex.SearchHit best = hits.get(0);
+        if (best.confidence() < minConfidence) return Optional.empty();
+        if (hits.size() > 1 && hits.get(1).score() > best.score() * maxRunnerUpRatio) return Optional.empty();
+        return Optional.of(best);
+    }
+
+    // 앞 두 문장, 최대 SUMMARY_LENGTH 자
+    private static String summarize(String content) {
+        if (content == null) return "";
+        String text = content.strip().replaceAll("\\s+", " ");
+
+        int end = 0;
+        for (int sentences = 0; sentences < 2; sentences++) {
+            int next = nextSentenceEnd(text, end);
+            if (next < 0) {
+                end = text.length();
+                break;
+            }
+            end = next;
+        }
+        if (end > SUMMARY_LENGTH) return text.substring(0, SUMMARY_LENGTH) + "…";
+        return text.substring(0, end);
+    }
+
+    private static int nextSentenceEnd(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '.' || c == '!' || c == '?') return i + 1;
+        }
+        return -1;
+    }
+
+}
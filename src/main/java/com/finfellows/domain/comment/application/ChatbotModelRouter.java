@@ -0,0 +1,141 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.chatgpt.config.ChatgptConfig;
+import com.finfellows.domain.chatgpt.domain.ChatGptMessage;
+import com.finfellows.domain.comment.dto.response.RoutingStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 질문마다 모델과 max_tokens 를 고른다.
+// - SIMPLE: 이전 대화 없이 짧게 용어 뜻을 묻는 질문. 빠른 모델과 작은 토큰 한도
+// - COMPLEX: 길거나, 비교/계획/계산을 묻거나, 이어지는 대화가 긴 질문. 큰 토큰 한도
+// - STANDARD: 나머지. 기존 설정과 같다.
+// 경로별 지연 시간과 토큰 사용량을 모아 기준을 조정할 수 있게 한다.
+@Component
+public class ChatbotModelRouter {
+
+    private static final List<String> DEFINITION_KEYWORDS = List.of(
+            "뭐야", "뭐예요", "뭔가요", "뭐지", "무엇", "뜻", "의미", "정의", "이란", "란"
+    );
+    private static final List<String> COMPLEX_KEYWORDS = List.of(
+            "비교", "차이", "어떻게", "방법", "전략", "계획", "포트폴리오", "추천", "계산", "시뮬레이션", "장단점", "왜", "상황"
+    );
+    // max_tokens 의 이 비율 이상을 쓰면 잘렸을 가능성이 있다고 본다.
+    private static final double NEAR_LIMIT_RATIO = 0.9;
+
+    public enum RouteType {SIMPLE, STANDARD, COMPLEX}
+
+    public record Route(RouteType type, String model, int maxTokens, double temperature, String settings) {
+
+        private Route(RouteType type, String model, int maxTokens, double temperature) {
+            this(type, model, maxTokens, temperature, ChatbotAnswerCache.fingerprint(String.join("|",
+                    ChatbotConversation.GUIDE, model, String.valueOf(maxTokens), String.valueOf(temperature))));
+        }
+
+    }
+
+    private final boolean enabled;
+    private final int simpleMaxLength;
+    private final int complexMinLength;
+    private final int complexMinTurns;
+    private final Map<RouteType, Route> routes = new EnumMap<>(RouteType.class);
+    private final Map<RouteType, RouteMetrics> metrics = new EnumMap<>(RouteType.class);
+
+    public ChatbotModelRouter(@Value("${chatbot.routing.enabled:true}") boolean enabled,
+                              @Value("${chatbot.routing.simple-max-length:30}") int simpleMaxLength,
+                              @Value("${chatbot.routing.complex-min-length:120}") int complexMinLength,
+                              @Value("${chatbot.routing.complex-min-turns:3}") int complexMinTurns,
+                              @Value("${chatbot.routing.simple.model:" + ChatgptConfig.CHAT_MODEL + "}") String simpleModel,
+                              @Value("${chatbot.routing.simple.max-tokens:150}") int simpleMaxTokens,
+                              @Value("${chatbot.routing.simple.temperature:0.3}") double simpleTemperature,
+                              @Value("${chatbot.routing.complex.model:" + ChatgptConfig.CHAT_MODEL + "}") String complexModel,
+                              @Value("${chatbot.routing.complex.max-tokens:600}") int complexMaxTokens,
+                              @Value("${chatbot.routing.complex.temperature:0.6}") double complexTemperature) {
+        this.enabled = enabled;
+        this.simpleMaxLength = simpleMaxLength;
+        this.complexMinLength = complexMinLength;
+        this.complexMinTurns = complexMinTurns;
+        routes.put(RouteType.SIMPLE, new Route(RouteType.SIMPLE, simpleModel, simpleMaxTokens, simpleTemperature));
+        routes.put(RouteType.STANDARD, new Route(RouteType.STANDARD, ChatgptConfig.CHAT_MODEL, ChatgptConfig.MAX_TOKEN, ChatgptConfig.TEMPERATURE));
+        routes.put(RouteType.COMPLEX, new Route(RouteType.COMPLEX, complexModel, complexMaxTokens, complexTemperature));
+        Arrays.stream(RouteType.values()).forEach(type -> metrics.put(type, new RouteMetrics()));
+    }
+
+    // messages 는 ChatbotConversation.build 의 결과. 이전 답변 수로 이어지는 대화의 길이를 본다.
+    public Route route(String question, List<ChatGptMessage> messages) {
+        if (!enabled) return routes.get(RouteType.STANDARD);
+
+        String normalized = Normalizer.normalize(question == null ? "" : question, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT).strip();
+        long previousTurns = messages.stream().filter(message -> ChatgptConfig.ASSISTANT_ROLE.equals(message.getRole())).count();
+        boolean complexKeyword = COMPLEX_KEYWORDS.stream().anyMatch(normalized::contains);
+
+        if (normalized.length() >= complexMinLength || (complexKeyword && previousTurns > 0) || previousTurns >= complexMinTurns)
+            return routes.get(RouteType.COMPLEX);
+        if (ChatbotConversation.isStandalone(messages) && normalized.length() <= simpleMaxLength && !complexKeyword
+                && DEFINITION_KEYWORDS.stream().anyMatch(normalized::contains))
+            return routes.get(RouteType.SIMPLE);
+        return routes.get(RouteType.STANDARD);
+    }
+
+    // usedTokens 는 응답까지 포함한 전체 토큰, completionTokens 는 답변에 쓴 토큰(모르면 0)
+    public void record(Route route, long latencyNanos, int usedTokens, int completionTokens, boolean failed) {
+        metrics.get(route.type()).record(latencyNanos, usedTokens, completionTokens >= route.maxTokens() * NEAR_LIMIT_RATIO, failed);
+    }
+
+    public RoutingStatsResponse getStats() {
+        return RoutingStatsResponse.builder()
+                .routes(routes.values().stream()
+                        .map(route -> metrics.get(route.type()).toStats(route))
+                        .toList())
+                .build();
+    }
+
+    private static class RouteMetrics {
+
+        private final LongAdder requestCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+        private final LongAdder totalTokens = new LongAdder();
+        private final LongAdder nearLimitCount = new LongAdder();
+
+        void record(long latencyNanos, int usedTokens, boolean nearLimit, boolean failed) {
+            requestCount.increment();
+            if (failed) {
+                failureCount.increment();
+                return;
+            }
+            totalLatencyNanos.add(latencyNanos);
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+            totalTokens.add(usedTokens);
+            if (nearLimit) nearLimitCount.increment();
+        }
+
+        RoutingStatsResponse.RouteStats toStats(Route route) {
+            long succeeded = requestCount.sum() - failureCount.sum();
+            return RoutingStatsResponse.RouteStats.builder()
+                    .route(route.type().name())
+                    .model(route.model())
+                    .maxTokens(route.maxTokens())
+                    .requestCount(requestCount.sum())
+                    .failureCount(failureCount.sum())
+                    .averageLatencyMillis(succeeded <= 0 ? 0 : totalLatencyNanos.sum() / succeeded / 1_000_000)
+                    .maxLatencyMillis(maxLatencyNanos.get() / 1_000_000)
+                    .averageTokens(succeeded <= 0 ? 0 : totalTokens.sum() / succeeded)
+                    .nearLimitRate(succeeded <= 0 ? 0 : (double) nearLimitCount.sum() / succeeded)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.comment.domain.repository.CommentRepository;
+import com.finfellows.domain.comment.dto.response.CommentListResponse;
+import com.finfellows.domain.comment.dto.response.TopicEvaluationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+// 금융과 무관한 질문을 GPT 호출 전에 거절하기 위한 로지스틱 회귀 분류기.
+// 저장된 대화 중 GPT 가 거절 문구로 답한 질문을 '무관', 나머지를 '금융'으로 보고 글자 2/3-gram 특징으로 학습한다.
+// 분류기 자신이나 FAQ 가 만든 답변은 학습/평가에 쓰지 않는다. (자기 예측을 다시 학습하지 않도록)
+// 금융 키워드가 들어 있으면 점수와 관계없이 거절하지 않는다. 학습 데이터가 부족하면 아무것도 거절하지 않는다.
+@Slf4j
+@Component
+public class ChatbotTopicClassifier {
+
+    public static final String REFUSAL = "미안해. 금융과 관련되지 않은 질문은 답변해줄 수 없어.";
+    private static final String REFUSAL_MARKER = "금융과 관련되지 않은 질문";
+
+    private static final List<String> FINANCE_KEYWORDS = List.of(
+            "금융", "투자", "자산", "저축", "은행", "돈", "예금", "적금", "대출", "금리", "이자", "주식", "펀드", "채권",
+            "보험", "연금", "세금", "카드", "신용", "환율", "부동산", "청약", "월급", "소득", "재테크", "경제", "가계부",
+            "코인", "증권", "배당", "cma", "etf", "isa", "irp"
+    );
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int DIMENSIONS = 1 << 18;
+    private static final int BIAS = DIMENSIONS;
+    private static final int KEYWORD_FEATURE = DIMENSIONS - 1;
+    private static final int EPOCHS = 8;
+    private static final double LEARNING_RATE = 0.2;
+    private static final double L2 = 1e-5;
+    private static final double[] EVALUATION_THRESHOLDS = {0.5, 0.6, 0.7, 0.8, 0.9, 0.95};
+
+    private final CommentRepository commentRepository;
+    private final double threshold;
+    private final int trainingSize;
+    private final int minExamplesPerClass;
+
+    private volatile double[] weights;
+
+    public ChatbotTopicClassifier(CommentRepository commentRepository,
+                                  @Value("${chatbot.topic.threshold:0.9}") double threshold,
+                                  @Value("${chatbot.topic.training-size:20000}") int trainingSize,
+                                  @Value("${chatbot.topic.min-examples-per-class:20}") int minExamplesPerClass) {
+        this.commentRepository = commentRepository;
+        this.threshold = threshold;
+        this.trainingSize = trainingSize;
+        this.minExamplesPerClass = minExamplesPerClass;
+    }
+
+    public boolean isOffTopic(String question) {
+        double[] model = weights;
+        if (model == null || containsFinanceKeyword(question)) return false;
+        return probability(model, features(question)) >= threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void train() {
+        List<Example> examples = loadExamples();
+        weights = hasEnoughExamples(examples) ? fit(examples) : null;
+        log.info("챗봇 주제 분류기 학습 ({}건, 적용 {})", examples.size(), weights != null);
+    }
+
+    // 5건 중 1건을 평가용으로 떼어 학습/평가한 뒤, 전체 데이터로 다시 학습해 적용한다.
+    public TopicEvaluationResponse trainAndEvaluate() {
+        List<Example> examples = loadExamples();
+        List<Example> training = new ArrayList<>();
+        List<Example> evaluation = new ArrayList<>();
+        for (int i = 0; i < examples.size(); i++) {
+            (i % 5 == 0 ? evaluation : training).add(examples.get(i));
+        }
+
+        List<TopicEvaluationResponse.ThresholdResult> results = new ArrayList<>();
+        if (hasEnoughExamples(training) && !evaluation.isEmpty()) {
+            double[] model = fit(training);
+            for (double candidate : EVALUATION_THRESHOLDS) {
+                results.add(evaluate(model, evaluation, candidate));
+            }
+        }
+
+        weights = hasEnoughExamples(examples) ? fit(examples) : null;
+        return TopicEvaluationResponse.builder()
+                .trainingExamples(training.size())
+                .evaluationExamples(evaluation.size())
+                .offTopicExamples((int) examples.stream().filter(Example::offTopic).count())
+                .threshold(threshold)
+                .results(results)
+                .build();
+    }
+
+    private List<Example> loadExamples() {
+        return commentRepository.findRecentQuestionAnswers(PageRequest.of(0, trainingSize)).stream()
+                .map(this::toExample)
+                .toList();
+    }
+
+    private Example toExample(CommentListResponse comment) {
+        return new Example(features(comment.getQuestion()), containsFinanceKeyword(comment.getQuestion()),
+                comment.getAnswer().contains(REFUSAL_MARKER));
+    }
+
+    private boolean hasEnoughExamples(List<Example> examples) {
+        long offTopic = examples.stream().filter(Example::offTopic).count();
+        return offTopic >= minExamplesPerClass && examples.size() - offTopic >= minExamplesPerClass;
+    }
+
+    // 클래스 비율을 맞춘 가중 SGD. 같은 데이터면 항상 같은 결과가 나오도록 섞는 순서를 고정한다.
+    private static double[] fit(List<Example> examples) {
+        double[] model = new double[DIMENSIONS + 1];
+        long offTopic = examples.stream().filter(Example::offTopic).count();
+        double offTopicWeight = examples.size() / (2.0 * offTopic);
+        double onTopicWeight = examples.size() / (2.0 * (examples.size() - offTopic));
+
+        Random random = new Random(42);
+        List<Example> shuffled = new ArrayList<>(examples);
+        for (int epoch = 0; epoch < EPOCHS; epoch++) {
+            Collections.shuffle(shuffled, random);
+            double learningRate = LEARNING_RATE / (1 + epoch);
+            for (Example example : shuffled) {
+                double label = example.offTopic() ? 1 : 0;
+                double gradient = (probability(model, example.features()) - label)
+                        * (example.offTopic() ? offTopicWeight : onTopicWeight);
+                for (int feature : example.features()) {
+                    model[feature] -= learningRate * (gradient + L2 * model[feature]);
+                }
+                model[BIAS] -= learningRate * gradient;
+            }
+        }
+        return model;
+    }
+
+    private static TopicEvaluationResponse.ThresholdResult evaluate(double[] model, List<Example> evaluation, double candidate) {
+        int truePositive = 0;
+        int falsePositive = 0;
+        int offTopic = 0;
+        for (Example example : evaluation) {
+            boolean rejected = !example.financeKeyword() && probability(model, example.features()) >= candidate;
+            if (example.offTopic()) offTopic++;
+            if (rejected && example.offTopic()) truePositive++;
+            if (rejected && !example.offTopic()) falsePositive++;
+        }
+        int rejectedCount = truePositive + falsePositive;
+        int onTopic = evaluation.size() - offTopic;
+        return new TopicEvaluationResponse.ThresholdResult(
+                candidate,
+                rejectedCount == 0 ? 0 : (double) truePositive / rejectedCount,
+                offTopic == 0 ? 0 : (double) truePositive / offTopic,
+                onTopic == 0 ? 0 : (double) falsePositive / onTopic
+        );
+    }
+
+    private static double probability(double[] model, int[] features) {
+        double z = model[BIAS];
+        for (int feature : features) {
+            z += model[feature];
+        }
+        return 1 / (1 + Math.exp(-z));
+    }
+
+    // 어절 경계를 표시한 글자 2/3-gram 을 해시한 특징. 금융 키워드 포함 여부는 마지막 특징으로 둔다.
+    static int[] features(String question) {
+        String normalized = normalize(question);
+        IntStream.Builder features = IntStream.builder();
+        for (String word : NON_WORD.split(normalized)) {
+            if (word.isEmpty()) continue;
+            String padded = " " + word + " ";
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= padded.length(); i++) {
+                    features.add(Math.floorMod(padded.substring(i, i + n).hashCode(), KEYWORD_FEATURE));
+                }
+            }
+        }
+        IntStream distinct = features.build().distinct().sorted();
+        return containsFinanceKeyword(question)
+                ? IntStream.concat(distinct, IntStream.of(KEYWORD_FEATURE)).toArray()
+                : distinct.toArray();
+    }
+
+    private static boolean containsFinanceKeyword(String question) {
+        String normalized = normalize(question);
+        return FINANCE_KEYWORDS.stream().anyMatch(normalized::contains);
+    }
+
+    private static String normalize(String question) {
+        return Normalizer.normalize(question == null ? "" : question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private record Example(int[] features, boolean financeKeyword, boolean offTopic) {
+    }
+
+}
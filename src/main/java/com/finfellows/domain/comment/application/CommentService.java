@@ -1,128 +1,299 @@
 package com.finfellows.domain.comment.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.finfellows.domain.chatgpt.application.ChatgptClient;
+import com.finfellows.domain.chatgpt.application.ChatgptUpstreamGuard;
 import com.finfellows.domain.chatgpt.domain.ChatGptMessage;
 import com.finfellows.domain.chatgpt.config.ChatgptConfig;
 import com.finfellows.domain.chatgpt.dto.request.ChatgptRequest;
+import com.finfellows.domain.chatgpt.dto.response.ChatgptCompletion;
+import com.finfellows.domain.chatgpt.dto.response.ChatgptUpstreamStatsResponse;
+import com.finfellows.domain.chatgpt.exception.ChatgptUnavailableException;
+import com.finfellows.domain.comment.domain.AnswerSource;
 import com.finfellows.domain.comment.domain.Comment;
 import com.finfellows.domain.comment.domain.repository.CommentRepository;
+import com.finfellows.domain.comment.dto.request.FaqEvaluationRequest;
+import com.finfellows.domain.comment.dto.response.AdmissionStatsResponse;
+import com.finfellows.domain.comment.dto.response.AnswerCacheStatsResponse;
+import com.finfellows.domain.comment.dto.response.CatalogRetrievalResponse;
 import com.finfellows.domain.comment.dto.response.CommentListResponse;
+import com.finfellows.domain.comment.dto.response.CommentResponse;
+import com.finfellows.domain.comment.dto.response.FaqEvaluationResponse;
+import com.finfellows.domain.comment.dto.response.RoutingStatsResponse;
+import com.finfellows.domain.comment.dto.response.TopicEvaluationResponse;
+import com.finfellows.domain.educontent.application.EduContentSearchIndex;
 import com.finfellows.domain.user.domain.User;
 
 import com.finfellows.domain.user.domain.repository.UserRepository;
+import com.finfellows.global.cache.ExpiringCache;
+import com.finfellows.global.cache.SingleFlight;
+import com.finfellows.global.config.datasource.ConnectionPoolMonitor;
+import com.finfellows.global.config.datasource.ConnectionPoolStatsResponse;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-import static com.finfellows.domain.user.domain.QUser.user;
-
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    // GPT 를 부를 수 없거나 실패했을 때 바로 돌려주는 안내. 저장하거나 캐시하지 않는다.
+    public static final String FALLBACK_ANSWER = "지금은 답변하기 어려워. 잠시 후에 다시 물어봐줘.";
+    private static final String GREETING = "안녕! 나는 금토리야. 도움이 필요하다면 편하게 말해줘.";
+
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final ChatgptClient chatgptClient;
+    private final ChatgptUpstreamGuard upstreamGuard;
+    private final ChatbotAnswerCache chatbotAnswerCache;
+    private final ChatbotAdmissionScheduler admissionScheduler;
+    private final ChatbotConversation chatbotConversation;
+    private final ChatbotFaqResponder chatbotFaqResponder;
+    private final ChatbotTopicClassifier chatbotTopicClassifier;
+    private final ChatbotModelRouter chatbotModelRouter;
+    private final ChatbotCatalogRetriever chatbotCatalogRetriever;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final ObjectMapper objectMapper;
+
+    private final SingleFlight<String, ChatgptCompletion> answerFlights = new SingleFlight<>();
+    private final SingleFlight<String, CommentResponse> idempotentFlights = new SingleFlight<>();
+    private final ExpiringCache<String, CommentResponse> idempotentResponses = new ExpiringCache<>(10_000, Duration.ofMinutes(10));
+
+    // 로그인한 사용자의 대화는 저장한다.
+    // Idempotency-Key 가 있으면 완료된 응답을 잠시 보관해 재시도에 그대로 돌려주고, 대화도 다시 저장하지 않는다.
+    public CommentResponse getChatResponse(Long userId, String clientIp, String question, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return answer(userId, clientIp, question);
+
+        String requestKey = clientKey(userId, clientIp) + ":" + idempotencyKey + ":" + ChatbotAnswerCache.normalize(question);
+        CommentResponse replay = idempotentResponses.get(requestKey);
+        if (replay != null) return replay;
+
+        return idempotentFlights.execute(requestKey, () -> {
+            CommentResponse response = answer(userId, clientIp, question);
+            if (!FALLBACK_ANSWER.equals(response.getAnswer())) idempotentResponses.put(requestKey, response);
+            return response;
+        });
+    }
 
-    @Autowired
-    private RestTemplate restTemplate;
+    // 교육콘텐츠로 답할 수 있거나 금융과 무관한 질문이면 GPT 를 호출하지 않는다.
+    private CommentResponse answer(Long userId, String clientIp, String question) {
+        Optional<CommentResponse> faq = chatbotFaqResponder.answer(question);
+        if (faq.isPresent()) {
+            if (userId != null) saveComment(userId, question, faq.get().getAnswer(), AnswerSource.FAQ);
+            return faq.get();
+        }
+        if (chatbotTopicClassifier.isOffTopic(question)) {
+            if (userId != null) saveComment(userId, question, ChatbotTopicClassifier.REFUSAL, AnswerSource.TOPIC_FILTER);
+            return CommentResponse.builder().answer(ChatbotTopicClassifier.REFUSAL).build();
+        }
 
+        String answer = getChatResponse(clientKey(userId, clientIp), userId, question);
+        if (userId != null && !FALLBACK_ANSWER.equals(answer)) saveComment(userId, question, answer, AnswerSource.GPT);
+        return CommentResponse.builder().answer(answer).build();
+    }
 
-    @Value("${chatgpt.api-key}")
-    private String apiKey;
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    // 이전 대화가 없는 질문만 답변 캐시를 쓰고, 동시에 들어온 같은 질문은 GPT 호출 하나를 함께 기다린다.
+    // 입장 제어는 호출을 함께 기다리는 요청도 각자 받는다. 거절은 그 요청에만 429 로 나가고,
+    // 공유한 답변의 토큰은 받아 간 사용자마다 예산에서 뺀다.
+    private String getChatResponse(String clientKey, Long userId, String question) {
+        Prompt prompt = prepare(userId, question);
+        if (prompt.cacheKey() != null) {
+            String cached = chatbotAnswerCache.get(prompt.cacheKey());
+            if (cached != null) return cached;
+        }
 
-    // gpt 단답
-    public HttpEntity<ChatgptRequest> buildHttpEntity(ChatgptRequest chatGptRequest) {
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setContentType(MediaType.parseMediaType(ChatgptConfig.MEDIA_TYPE));
-        httpHeaders.add(ChatgptConfig.AUTHORIZATION, ChatgptConfig.BEARER + apiKey);
-        return new HttpEntity<>(chatGptRequest, httpHeaders);
+        ChatbotAdmissionScheduler.Ticket ticket = admissionScheduler.admit(clientKey, userId != null,
+                ChatbotConversation.estimateTokens(prompt.messages()) + prompt.route().maxTokens());
+        ChatgptCompletion completion = null;
+        try {
+            completion = prompt.cacheKey() == null
+                    ? requestCompletion(prompt.messages(), prompt.route(), null)
+                    : answerFlights.execute(prompt.cacheKey(),
+                    () -> requestCompletion(prompt.messages(), prompt.route(), prompt.cacheKey()));
+            return completion == null ? "" : completion.getContent();
+        } catch (Exception e) {
+            return fallback(e);
+        } finally {
+            ticket.release(completion == null ? 0 : completion.getTotalTokens());
+        }
     }
 
-    // gpt 단답
-    public String getResponse(HttpEntity<ChatgptRequest> chatGptRequestHttpEntity) {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(60000);
-        requestFactory.setReadTimeout(60 * 1000);
-        restTemplate.setRequestFactory(requestFactory);
+    // 경로는 근거를 붙이기 전의 대화로 고른다.
+    // 캐시 키에는 고른 경로의 모델 설정과, 근거를 붙였다면 그 카탈로그 버전이 들어간다.
+    private Prompt prepare(Long userId, String question) {
+        List<ChatGptMessage> messages = chatbotConversation.build(userId, question);
+        ChatbotModelRouter.Route route = chatbotModelRouter.route(question, messages);
+        boolean standalone = ChatbotConversation.isStandalone(messages);
 
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(
-                ChatgptConfig.CHAT_URL,
-                chatGptRequestHttpEntity,
-                String.class);
+        Optional<ChatbotCatalogRetriever.Grounding> grounding = chatbotCatalogRetriever.retrieve(question);
+        if (grounding.isPresent()) messages = ChatbotCatalogRetriever.inject(messages, grounding.get());
 
-        String responseBody = responseEntity.getBody();
+        String settings = route.settings() + grounding.map(found -> ":catalog-" + found.catalogVersion()).orElse("");
+        return new Prompt(messages, route, standalone ? ChatbotAnswerCache.key(question, settings) : null);
+    }
 
-        return responseBody;
+    // cacheKey 는 답변을 다른 사용자와 공유할 수 있을 때만 있다.
+    private record Prompt(List<ChatGptMessage> messages, ChatbotModelRouter.Route route, String cacheKey) {
     }
 
-    public String getChatResponse(String question) {
-        try {
-            String prompt_guide=
-                    "너는 지금 청년들의 금융 지식을 향상시켜주기 위한 챗봇이야. 너의 이름은 '금토리'야. 너는 캐릭터의 역할이기 때문에 텍스트 형식으로 답변을 해야 해. 언어는 한국어로 말해야 하고, 말투는 친구한테 말하는 것처럼 반발로 해." +
-                            "그리고 금융, 투자, 자산, 저축, 은행, 돈에 관련된 답변만 해야 하고, 만약 금융과 관련이 없는 질문이면 '미안해. 금융과 관련되지 않은 질문은 답변해줄 수 없어.'라고 말하면 돼. " +
-                            "질문은 다음과 같아. 실제로 사용자와 대화하듯이 말해야 하고, 바로 질문에 대한 답을 해. 상식적으로 알 수도 있다는 말은 하지 마." +
-                            "'네'라는 대답은 하지마. 인사말도 하지 마. 그리고 최대한 자세하게 답변해. 다시 한 번 말하지만, 반말로 말해. 그리고 문장은 끝까지 완전한 형태로 말 해. 답변 길이는 3줄 분량보다 넘지 마.";
-            question=prompt_guide.concat(question);
-
-            List<ChatGptMessage> messages = new ArrayList<>();
-            messages.add(ChatGptMessage.builder()
-                    .role(ChatgptConfig.ROLE)
-                    .content(question)
-                    .build());
-
-            ChatgptRequest chatRequest = ChatgptRequest.builder()
-                    .model(ChatgptConfig.CHAT_MODEL)
-                    .maxTokens(ChatgptConfig.MAX_TOKEN)
-                    .temperature(ChatgptConfig.TEMPERATURE)
-                    .stream(ChatgptConfig.STREAM_FALSE)
-                    .messages(messages)
-                    .build();
-
-            HttpEntity<ChatgptRequest> httpEntity = buildHttpEntity(chatRequest);
-
-            String response = getResponse(httpEntity);
-            String content = extractContentFromJson(response);
-            return content;
+    // 차단기/벌크헤드로 호출하지 않은 경우는 흔하므로 스택 없이 남긴다.
+    private static String fallback(Exception e) {
+        if (e instanceof ChatgptUnavailableException) log.warn("챗봇 답변 요청 생략: {}", e.getMessage());
+        else log.error("챗봇 답변 요청 실패", e);
+        return FALLBACK_ANSWER;
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "request error";
+    // 실제 GPT 호출 한 번. cacheKey 가 있으면 받은 답변을 캐시한다.
+    private ChatgptCompletion requestCompletion(List<ChatGptMessage> messages, ChatbotModelRouter.Route route, String cacheKey) {
+        long startedAt = System.nanoTime();
+        ChatgptCompletion completion = null;
+        try {
+            completion = chatgptClient.complete(buildChatRequest(messages, route, ChatgptConfig.STREAM_FALSE)).block();
+            if (cacheKey != null && completion != null && !completion.getContent().isBlank())
+                chatbotAnswerCache.put(cacheKey, completion.getContent());
+            return completion;
+        } finally {
+            chatbotModelRouter.record(route, System.nanoTime() - startedAt, completion == null ? 0 : completion.getTotalTokens(),
+                    completion == null ? 0 : completion.getCompletionTokens(), completion == null);
         }
     }
 
-    // JSON에서 "content" 부분 추출하는 메소드
-    private String extractContentFromJson(String jsonResponse) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(jsonResponse);
-            if (jsonNode.has("choices") && jsonNode.get("choices").isArray()) {
-                JsonNode firstChoice = jsonNode.get("choices").get(0);
-                if (firstChoice.has("message") && firstChoice.get("message").has("content")) {
-                    return firstChoice.get("message").get("content").asText();
-                }
-            }
-        } catch (JsonProcessingException e) {
-            System.out.println("JSON 파싱 실패");
+    // 캐시된 답변은 한 조각으로 바로 보낸다.
+    // 입장 제어는 구독할 때 수행하고 스트림이 끝나거나 취소되면 반납한다. 구독하지 않은 Flux 는 슬롯을 잡지 않는다.
+    // 거절되면 TooManyRequestsException 으로 에러 신호를 보낸다.
+    public Flux<String> streamChatResponse(Long userId, String clientIp, String question) {
+        Optional<CommentResponse> faq = chatbotFaqResponder.answer(question);
+        if (faq.isPresent() || chatbotTopicClassifier.isOffTopic(question)) {
+            String answer = faq.isPresent() ? faq.get().getAnswer() : ChatbotTopicClassifier.REFUSAL;
+            AnswerSource source = faq.isPresent() ? AnswerSource.FAQ : AnswerSource.TOPIC_FILTER;
+            return Flux.just(answer)
+                    .publishOn(upstreamGuard.callbackScheduler())
+                    .doOnComplete(() -> {
+                        if (userId != null) saveComment(userId, question, answer, source);
+                    });
         }
-        return jsonResponse;
+
+        Prompt prompt = prepare(userId, question);
+        List<ChatGptMessage> messages = prompt.messages();
+        ChatbotModelRouter.Route route = prompt.route();
+        String cacheKey = prompt.cacheKey();
+        String cached = cacheKey == null ? null : chatbotAnswerCache.get(cacheKey);
+        int inputTokens = ChatbotConversation.estimateTokens(messages);
+
+        return Flux.defer(() -> {
+            ChatbotAdmissionScheduler.Ticket ticket = cached != null
+                    ? null
+                    : admissionScheduler.admit(clientKey(userId, clientIp), userId != null, inputTokens + route.maxTokens());
+            long startedAt = System.nanoTime();
+            AtomicBoolean degraded = new AtomicBoolean();
+            Flux<String> deltas;
+            try {
+                deltas = cached != null
+                        ? Flux.just(cached)
+                        : chatgptClient.streamCompletion(buildChatRequest(messages, route, ChatgptConfig.STREAM_TRUE))
+                        // 첫 조각을 받기 전에 GPT 를 부를 수 없게 되면 안내 문구로 대신한다.
+                        .onErrorResume(ChatgptUnavailableException.class, e -> {
+                            log.warn("챗봇 스트리밍 생략: {}", e.getMessage());
+                            degraded.set(true);
+                            return Flux.just(FALLBACK_ANSWER);
+                        });
+            } catch (RuntimeException e) {
+                // 스트림을 만들지 못하면 doFinally 가 붙지 않으므로 여기서 반납한다.
+                if (ticket != null) ticket.release(0);
+                throw e;
+            }
+
+            StringBuilder answer = new StringBuilder();
+            return deltas
+                    // 응답 전송과 저장은 블로킹이므로 네트워크 이벤트 루프에서 벗어나 챗봇 전용 스레드에서 처리한다.
+                    .publishOn(upstreamGuard.callbackScheduler())
+                    .doOnNext(answer::append)
+                    .doOnComplete(() -> {
+                        if (degraded.get()) return;
+                        if (cacheKey != null && cached == null && !answer.isEmpty()) chatbotAnswerCache.put(cacheKey, answer.toString());
+                        if (userId != null) saveComment(userId, question, answer.toString(), AnswerSource.GPT);
+                    })
+                    // 스트림 응답에는 usage 가 없으므로 글자 수로 어림한다. 끝까지 받지 못한 호출은 실패로 센다.
+                    .doFinally(signal -> {
+                        if (ticket == null) return;
+                        int answerTokens = ChatbotConversation.estimateTokens(answer.toString());
+                        chatbotModelRouter.record(route, System.nanoTime() - startedAt, inputTokens + answerTokens, answerTokens,
+                                signal != SignalType.ON_COMPLETE || degraded.get());
+                        ticket.release(inputTokens + answerTokens);
+                    });
+        });
+    }
+
+    public ChatgptUpstreamStatsResponse getUpstreamStats() {
+        return upstreamGuard.getStats();
+    }
+
+    public CatalogRetrievalResponse explainRetrieval(String question) {
+        return chatbotCatalogRetriever.explain(question);
+    }
+
+    public RoutingStatsResponse getRoutingStats() {
+        return chatbotModelRouter.getStats();
     }
 
-    public void saveComment(Long userId, String question, String answer) {
+    public AdmissionStatsResponse getAdmissionStats() {
+        return admissionScheduler.getStats();
+    }
+
+    public ConnectionPoolStatsResponse getConnectionPoolStats() {
+        return connectionPoolMonitor.getStats();
+    }
+
+    private static String clientKey(Long userId, String clientIp) {
+        return userId != null ? "user:" + userId : "ip:" + clientIp;
+    }
+
+    public List<EduContentSearchIndex.SearchHit> searchFaq(String question) {
+        return chatbotFaqResponder.search(question, 5);
+    }
+
+    public FaqEvaluationResponse evaluateFaq(List<FaqEvaluationRequest> cases) {
+        return chatbotFaqResponder.evaluate(cases);
+    }
+
+    public TopicEvaluationResponse trainTopicClassifier() {
+        return chatbotTopicClassifier.trainAndEvaluate();
+    }
+
+    public AnswerCacheStatsResponse getAnswerCacheStats() {
+        return chatbotAnswerCache.getStats();
+    }
+
+    public void purgeAnswerCache() {
+        chatbotAnswerCache.purge();
+    }
+
+    private ChatgptRequest buildChatRequest(List<ChatGptMessage> messages, ChatbotModelRouter.Route route, Boolean stream) {
+        return ChatgptRequest.builder()
+                .model(route.model())
+                .maxTokens(route.maxTokens())
+                .temperature(route.temperature())
+                .stream(stream)
+                .messages(messages)
+                .build();
+    }
+
+    public void saveComment(Long userId, String question, String answer, AnswerSource answerSource) {
         Optional<User> optionalUser = userRepository.findById(userId);
         User user = optionalUser.orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -134,61 +305,61 @@ public class CommentService {
         Comment comment = Comment.builder()
                 .question(question)
                 .answer(answer)
+                .answerSource(answerSource)
                 .user(user)
                 .build();
         commentRepository.save(comment);
     }
 
     // JSON에서 "prompt" 부분 추출하는 메소드
+    // 평문 질문은 파싱하지 않고 그대로 쓴다.
     private String extractPromptFromJson(String json) {
+        if (json == null || !json.stripLeading().startsWith("{")) return json;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             JsonNode jsonNode = objectMapper.readTree(json);
             if (jsonNode.has("question")) {
                 return jsonNode.get("question").asText();
             }
         } catch (JsonProcessingException e) {
-            System.out.print("텍스트 변환 실패");
+            log.warn("텍스트 변환 실패: {}", e.getOriginalMessage());
         }
         return json;
     }
 
+    @Transactional(readOnly = true)
     public List<CommentListResponse> getAllComments(Long userId) {
-        Optional<User> optionalUser = userRepository.findById(userId);
-        User user = optionalUser.orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Comment> comments = commentRepository.findAllByUserId(userId);
+        List<CommentListResponse> comments = new ArrayList<>(commentRepository.findCommentHistory(userId));
+        comments.add(greeting());
+        return comments;
+    }
 
-        return comments.stream()
-                .map(comment -> CommentListResponse.builder()
-                        .commentId(comment.getCommentId())
-                        .created_at(comment.getCreatedAt())
-                        .greeting(comment.getGreeting())
-                        .question(comment.getQuestion())
-                        .answer(comment.getAnswer())
-                        .userId(comment.getUser().getId())
-                        .build()
-                )
-                .collect(Collectors.toList());
+    // 최신 대화부터. 첫 페이지 맨 앞에는 저장하지 않은 인사말을 붙인다.
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentListResponse> getCommentsByCursor(Long userId, String cursor, int size) {
+        int pageSize = Cursors.size(size);
+        String[] keys = Cursors.decode(cursor, 1);
+        if (userId == null) return new CursorSlice<>(keys == null ? getGreeting() : List.of(), null);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<CommentListResponse> comments = keys == null
+                ? commentRepository.findLatestComments(userId, limit)
+                : commentRepository.findCommentsBefore(userId, Cursors.toLong(keys[0]), limit);
+        CursorSlice<CommentListResponse> slice = CursorSlice.of(comments, pageSize, last -> Cursors.encode(last.getCommentId()));
+        if (keys != null) return slice;
+
+        List<CommentListResponse> firstPage = new ArrayList<>(slice.getSize() + 1);
+        firstPage.add(greeting());
+        firstPage.addAll(slice.getContent());
+        return new CursorSlice<>(firstPage, slice.getNextCursor());
     }
 
     public List<CommentListResponse> getGreeting() {
-        return Collections.singletonList(
-                CommentListResponse.builder()
-                        .greeting("안녕! 나는 금토리야. 도움이 필요하다면 편하게 말해줘.")
-                        .build()
-        );
+        return Collections.singletonList(greeting());
     }
 
-    public void saveGreeting(Long userId) {
-        Optional<User> optionalUser = userRepository.findById(userId);
-        User user = optionalUser.orElseThrow(() -> new RuntimeException("User not found"));
-        List<Comment> comments = commentRepository.findAllByUserId(userId);
-
-        Comment greet = Comment.builder()
-                .greeting("안녕! 나는 금토리야. 도움이 필요하다면 편하게 말해줘.")
-                .user(user)
+    private CommentListResponse greeting() {
+        return CommentListResponse.builder()
+                .greeting(GREETING)
                 .build();
-        commentRepository.save(greet);
     }
 }
@@ -0,0 +1,8 @@
+package com.finfellows.domain.comment.domain;
+
+// 답변을 만든 곳. 주제 분류기는 GPT 가 만든 답변으로만 학습한다.
+public enum AnswerSource {
+    GPT,
+    FAQ,
+    TOPIC_FILTER
+}
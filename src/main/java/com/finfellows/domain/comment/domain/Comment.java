@@ -6,7 +6,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name="Comment")
+@Table(name="Comment", indexes = @Index(name = "idx_comment_user_id", columnList = "user_id, comment_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Comment extends BaseEntity {
@@ -25,15 +25,21 @@ public class Comment extends BaseEntity {
     @Column(name="answer")
     private String answer;
 
-    @ManyToOne
+    // 이 컬럼이 생기기 전의 행은 비어 있고, GPT 답변으로 본다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "answer_source")
+    private AnswerSource answerSource;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id")
     private User user;
 
     @Builder
-    public Comment(String question, String greeting, String answer, User user){
+    public Comment(String question, String greeting, String answer, AnswerSource answerSource, User user){
         this.greeting=greeting;
         this.question=question;
         this.answer=answer;
+        this.answerSource=answerSource;
         this.user=user;
 
     }
@@ -1,13 +1,35 @@
 package com.finfellows.domain.comment.domain.repository;
 
 import com.finfellows.domain.comment.domain.Comment;
+import com.finfellows.domain.comment.dto.response.CommentListResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findAllByUserId(Long userId);
+    // User 를 조인하지 않고 FK(user_id)만 읽는다. (user_id, comment_id) 인덱스를 탄다.
+    @Query("select new com.finfellows.domain.comment.dto.response.CommentListResponse(c.commentId, c.createdAt, c.greeting, c.question, c.answer, c.user.id) " +
+            "from Comment c where c.user.id = :userId order by c.commentId")
+    List<CommentListResponse> findCommentHistory(@Param("userId") Long userId);
+
+    @Query("select new com.finfellows.domain.comment.dto.response.CommentListResponse(c.commentId, c.createdAt, c.greeting, c.question, c.answer, c.user.id) " +
+            "from Comment c where c.user.id = :userId order by c.commentId desc")
+    List<CommentListResponse> findLatestComments(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.finfellows.domain.comment.dto.response.CommentListResponse(c.commentId, c.createdAt, c.greeting, c.question, c.answer, c.user.id) " +
+            "from Comment c where c.user.id = :userId and c.commentId < :commentId order by c.commentId desc")
+    List<CommentListResponse> findCommentsBefore(@Param("userId") Long userId, @Param("commentId") Long commentId, Pageable pageable);
+
+    // 전체 사용자의 최근 GPT 질문/답변. 주제 분류기 학습에 쓴다. FAQ/분류기가 직접 만든 답변은 제외한다.
+    @Query("select new com.finfellows.domain.comment.dto.response.CommentListResponse(c.commentId, c.createdAt, c.greeting, c.question, c.answer, c.user.id) " +
+            "from Comment c where c.question is not null and c.answer is not null " +
+            "and (c.answerSource is null or c.answerSource = com.finfellows.domain.comment.domain.AnswerSource.GPT) " +
+            "order by c.commentId desc")
+    List<CommentListResponse> findRecentQuestionAnswers(Pageable pageable);
 
 }
@@ -0,0 +1,14 @@
+package com.finfellows.domain.comment.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FaqEvaluationRequest {
+    private String question;
+    // GPT 로 넘겨야 하는 질문이면 null
+    private Long expectedEduContentId;
+}
@@ -0,0 +1,19 @@
+package com.finfellows.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdmissionStatsResponse {
+    private int running;
+    private int queueDepth;
+    private long admittedCount;
+    private long rejectedCount;
+    private long averageWaitMillis;
+    private long maxWaitMillis;
+}
@@ -0,0 +1,16 @@
+package com.finfellows.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnswerCacheStatsResponse {
+    private int size;
+    private long hitCount;
+    private long missCount;
+}
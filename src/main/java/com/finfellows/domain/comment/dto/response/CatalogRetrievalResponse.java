@@ -0,0 +1,20 @@
+package com.finfellows.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogRetrievalResponse {
+    private int catalogSize;
+    private long catalogVersion;
+    private int entryCount;
+    private int injectedTokens;
+    private int maxTokens;
+    // 질문에 붙는 system 메시지. 붙일 내용이 없으면 null
+    private String context;
+}
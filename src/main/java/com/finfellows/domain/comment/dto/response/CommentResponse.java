@@ -1,5 +1,6 @@
 package com.finfellows.domain.comment.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,12 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class CommentResponse {
     private String answer;
+
+    // 교육콘텐츠로 답한 경우에만 채워진다.
+    private Long eduContentId;
+    private String link;
+    private Double matchScore;
 }
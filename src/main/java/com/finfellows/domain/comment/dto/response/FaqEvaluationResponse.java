@@ -0,0 +1,24 @@
+package com.finfellows.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FaqEvaluationResponse {
+    private double minConfidence;
+    private int total;
+    // 기대한 콘텐츠로 답했거나, 기대대로 GPT 로 넘긴 경우
+    private int correct;
+    // 다른 콘텐츠로 답했거나, GPT 로 넘겨야 하는데 콘텐츠로 답한 경우
+    private int wrongMatches;
+    // 콘텐츠로 답해야 하는데 GPT 로 넘긴 경우
+    private int missed;
+    private double accuracy;
+    private double averageMicros;
+    private long p95Micros;
+}
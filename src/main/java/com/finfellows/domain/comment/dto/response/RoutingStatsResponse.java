@@ -0,0 +1,35 @@
+package com.finfellows.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoutingStatsResponse {
+    private List<RouteStats> routes;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RouteStats {
+        // SIMPLE, STANDARD, COMPLEX
+        private String route;
+        private String model;
+        private int maxTokens;
+        private long requestCount;
+        private long failureCount;
+        private long averageLatencyMillis;
+        private long maxLatencyMillis;
+        // 일반 호출은 usage.total_tokens, 스트리밍은 글자 수로 어림한 값
+        private long averageTokens;
+        // 답변이 max_tokens 에 닿아 잘렸을 가능성이 있는 비율
+        private double nearLimitRate;
+    }
+}
@@ -0,0 +1,34 @@
+package com.finfellows.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TopicEvaluationResponse {
+    private int trainingExamples;
+    private int evaluationExamples;
+    private int offTopicExamples;
+    // 현재 적용 중인 거절 기준
+    private double threshold;
+    private List<ThresholdResult> results;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ThresholdResult {
+        private double threshold;
+        // 거절한 질문 중 실제로 금융과 무관한 비율
+        private double precision;
+        // 금융과 무관한 질문 중 거절한 비율
+        private double recall;
+        // 금융 질문을 잘못 거절한 비율
+        private double falsePositiveRate;
+    }
+}
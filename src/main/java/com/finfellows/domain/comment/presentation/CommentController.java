@@ -1,25 +1,44 @@
 package com.finfellows.domain.comment.presentation;
 
+import com.finfellows.domain.chatgpt.dto.response.ChatgptUpstreamStatsResponse;
 import com.finfellows.domain.comment.application.CommentService;
 import com.finfellows.domain.comment.dto.request.CommentRequest;
+import com.finfellows.domain.comment.dto.request.FaqEvaluationRequest;
+import com.finfellows.domain.comment.dto.response.AdmissionStatsResponse;
+import com.finfellows.domain.comment.dto.response.AnswerCacheStatsResponse;
+import com.finfellows.domain.comment.dto.response.CatalogRetrievalResponse;
 import com.finfellows.domain.comment.dto.response.CommentListResponse;
 import com.finfellows.domain.comment.dto.response.CommentResponse;
+import com.finfellows.domain.comment.dto.response.FaqEvaluationResponse;
+import com.finfellows.domain.comment.dto.response.RoutingStatsResponse;
+import com.finfellows.domain.comment.dto.response.TopicEvaluationResponse;
+import com.finfellows.global.config.datasource.ConnectionPoolStatsResponse;
+import com.finfellows.domain.educontent.application.EduContentSearchIndex;
 import com.finfellows.global.config.security.token.CurrentUser;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.error.TooManyRequestsException;
+import com.finfellows.global.payload.CursorSlice;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
 
+import java.io.IOException;
 import java.util.List;
 @Slf4j
 @RestController
@@ -27,6 +46,8 @@ import java.util.List;
 @RequestMapping("/api/chatbot")
 @Tag(name="Chatbot",description = "Chatbot API")
 public class CommentController {
+    private static final long STREAM_TIMEOUT_MILLIS = 90_000L;
+
     private CommentService commentService;
 
     @Autowired
@@ -39,20 +60,66 @@ public class CommentController {
     @ApiResponse(responseCode = "200", description = "챗봇 질문에 대한 답변 응답 성공", content = {
             @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CommentListResponse.class)))
     })
+    @ApiResponse(responseCode = "429", description = "요청이 많아 거절되었습니다. Retry-After 초 뒤에 다시 시도합니다.")
     @PostMapping("")
     public ResponseEntity<CommentResponse> getChatResponse(
             @CurrentUser UserPrincipal userPrincipal,
-            @RequestBody CommentRequest request) {
-        String question=request.getQuestion();
-        String answer = commentService.getChatResponse(question);
+            @Parameter(description = "같은 키로 재시도하면 이전 응답을 다시 돌려줍니다.") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CommentRequest request,
+            HttpServletRequest httpServletRequest) {
+        // 로그인하지 않은 사용자는 대화를 저장하지 않는다.
+        Long userId = userPrincipal == null ? null : userPrincipal.getId();
+        return ResponseEntity.ok(commentService.getChatResponse(userId, clientIp(httpServletRequest), request.getQuestion(), idempotencyKey));
+    }
 
-        if (userPrincipal == null) {
-            // 로그인하지 않은 사용자인 경우
-            return ResponseEntity.ok(CommentResponse.builder().answer(answer).build());
-        } else {
-            // 로그인한 사용자인 경우
-            commentService.saveComment(userPrincipal.getId(), question, answer);
-            return ResponseEntity.ok(CommentResponse.builder().answer(answer).build());
+    @Operation(summary = "챗봇 답변 스트리밍", description = "챗봇 답변을 생성되는 대로 SSE로 전송합니다. 로그인한 사용자는 답변이 끝나면 대화가 저장됩니다.")
+    @ApiResponse(responseCode = "200", description = "delta 이벤트로 답변 조각을, done 이벤트로 종료를 알립니다.")
+    @ApiResponse(responseCode = "429", description = "요청이 많아 거절되었습니다. Retry-After 초 뒤에 다시 시도합니다.")
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChatResponse(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestBody CommentRequest request,
+            HttpServletRequest httpServletRequest) {
+        Long userId = userPrincipal == null ? null : userPrincipal.getId();
+        Flux<String> deltas = commentService.streamChatResponse(userId, clientIp(httpServletRequest), request.getQuestion());
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+
+        Disposable subscription = deltas
+                .subscribe(
+                        delta -> send(emitter, SseEmitter.event().name("delta").data(delta)),
+                        error -> {
+                            // 입장 거절은 구독하는 이 스레드에서 바로 오므로, 응답을 보내기 전이라 429 로 처리된다.
+                            if (error instanceof TooManyRequestsException) {
+                                emitter.completeWithError(error);
+                                return;
+                            }
+                            log.error("챗봇 스트리밍 실패", error);
+                            send(emitter, SseEmitter.event().name("error").data(CommentService.FALLBACK_ANSWER));
+                            emitter.complete();
+                        },
+                        () -> {
+                            send(emitter, SseEmitter.event().name("done").data("[DONE]"));
+                            emitter.complete();
+                        });
+
+        // 클라이언트가 먼저 끊거나 시간이 지나면 OpenAI 스트림도 끊는다.
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        return emitter;
+    }
+
+    // 요청 헤더를 직접 믿지 않는다. 신뢰하는 프록시 뒤라면 RemoteIpValve 가 remoteAddr 을 실제 클라이언트 주소로 바꿔 둔다.
+    private String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우. onError 콜백에서 구독이 정리된다.
+            emitter.completeWithError(e);
         }
     }
 
@@ -69,11 +136,110 @@ public class CommentController {
             // 로그인하지 않은 사용자인 경우
             responseList = commentService.getGreeting();
         } else {
-            // 로그인한 사용자인 경우
+            // 로그인한 사용자인 경우. 인사말은 저장하지 않고 응답에만 붙인다.
             Long userId=userPrincipal.getId();
-            commentService.saveGreeting(userId);
             responseList = commentService.getAllComments(userId);
         }
         return new ResponseEntity<>(responseList, HttpStatus.OK);
     }
+
+    @Operation(summary = "챗봇 대화 내용 커서 조회", description = "챗봇 대화를 최신순 커서 기반으로 조회합니다. 첫 페이지 맨 앞에는 인사말이 포함됩니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "챗봇 대화 커서 목록 조회 성공", content = {
+            @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CommentListResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<CommentListResponse>> getCommentsByCursor(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        return new ResponseEntity<>(commentService.getCommentsByCursor(userId, cursor, size), HttpStatus.OK);
+    }
+
+    @Operation(summary = "챗봇 답변 캐시 통계", description = "관리자용. 답변 캐시의 크기와 적중/미적중 횟수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "답변 캐시 통계 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = AnswerCacheStatsResponse.class))
+    })
+    @GetMapping("/admin/answer-cache")
+    public ResponseEntity<AnswerCacheStatsResponse> getAnswerCacheStats() {
+        return ResponseEntity.ok(commentService.getAnswerCacheStats());
+    }
+
+    @Operation(summary = "챗봇 답변 캐시 비우기", description = "관리자용. 캐시된 답변을 모두 삭제합니다.")
+    @ApiResponse(responseCode = "204", description = "답변 캐시 삭제 성공")
+    @DeleteMapping("/admin/answer-cache")
+    public ResponseEntity<Void> purgeAnswerCache() {
+        commentService.purgeAnswerCache();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "챗봇 입장 제어 통계", description = "관리자용. GPT 호출 대기열 길이, 대기 시간, 거절 횟수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "입장 제어 통계 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = AdmissionStatsResponse.class))
+    })
+    @GetMapping("/admin/admission")
+    public ResponseEntity<AdmissionStatsResponse> getAdmissionStats() {
+        return ResponseEntity.ok(commentService.getAdmissionStats());
+    }
+
+    @Operation(summary = "챗봇 모델 경로별 통계", description = "관리자용. 질문 유형별로 고른 모델, 요청 수, 지연 시간, 토큰 사용량을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "모델 경로별 통계 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = RoutingStatsResponse.class))
+    })
+    @GetMapping("/admin/routing")
+    public ResponseEntity<RoutingStatsResponse> getRoutingStats() {
+        return ResponseEntity.ok(commentService.getRoutingStats());
+    }
+
+    @Operation(summary = "GPT 호출 보호 상태 조회", description = "관리자용. 차단기 상태, 최근 실패율, 동시 호출 수, 현재 적용 중인 제한 시간을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "GPT 호출 보호 상태 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = ChatgptUpstreamStatsResponse.class))
+    })
+    @GetMapping("/admin/upstream")
+    public ResponseEntity<ChatgptUpstreamStatsResponse> getUpstreamStats() {
+        return ResponseEntity.ok(commentService.getUpstreamStats());
+    }
+
+    @Operation(summary = "DB 커넥션 풀 상태 조회", description = "관리자용. 커넥션 풀 사용량과, GPT 호출/S3 업로드 시점에 DB 커넥션을 쥐고 있던 횟수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "커넥션 풀 상태 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = ConnectionPoolStatsResponse.class))
+    })
+    @GetMapping("/admin/connection-pool")
+    public ResponseEntity<ConnectionPoolStatsResponse> getConnectionPoolStats() {
+        return ResponseEntity.ok(commentService.getConnectionPoolStats());
+    }
+
+    @Operation(summary = "챗봇 FAQ 매칭 조회", description = "관리자용. 질문과 가까운 교육콘텐츠와 매칭 점수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "FAQ 매칭 조회 성공")
+    @GetMapping("/admin/faq")
+    public ResponseEntity<List<EduContentSearchIndex.SearchHit>> searchFaq(@RequestParam String question) {
+        return ResponseEntity.ok(commentService.searchFaq(question));
+    }
+
+    @Operation(summary = "챗봇 상품/정책 근거 조회", description = "관리자용. 질문에 붙는 상품/정책 요약과 추가되는 토큰 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "상품/정책 근거 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = CatalogRetrievalResponse.class))
+    })
+    @GetMapping("/admin/retrieval")
+    public ResponseEntity<CatalogRetrievalResponse> explainRetrieval(@RequestParam String question) {
+        return ResponseEntity.ok(commentService.explainRetrieval(question));
+    }
+
+    @Operation(summary = "챗봇 FAQ 평가", description = "관리자용. 질문과 기대 교육콘텐츠 목록으로 현재 기준값의 정확도와 매칭 지연 시간을 측정합니다.")
+    @ApiResponse(responseCode = "200", description = "FAQ 평가 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = FaqEvaluationResponse.class))
+    })
+    @PostMapping("/admin/faq/evaluate")
+    public ResponseEntity<FaqEvaluationResponse> evaluateFaq(@RequestBody List<FaqEvaluationRequest> cases) {
+        return ResponseEntity.ok(commentService.evaluateFaq(cases));
+    }
+
+    @Operation(summary = "챗봇 주제 분류기 학습", description = "관리자용. 저장된 대화로 금융 무관 질문 분류기를 다시 학습하고, 일부를 떼어 둔 평가 결과를 기준값별로 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "주제 분류기 학습 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = TopicEvaluationResponse.class))
+    })
+    @PostMapping("/admin/topic/train")
+    public ResponseEntity<TopicEvaluationResponse> trainTopicClassifier() {
+        return ResponseEntity.ok(commentService.trainTopicClassifier());
+    }
 }
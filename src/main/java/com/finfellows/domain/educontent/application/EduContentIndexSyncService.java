@@ -0,0 +1,35 @@
+package com.finfellows.domain.educontent.application;
+
+import com.finfellows.domain.educontent.domain.EduContentChangedEvent;
+import com.finfellows.domain.educontent.domain.repository.EduContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 기동 시 전체 색인을 만들고, 이후에는 변경된 콘텐츠만 반영한다.
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class EduContentIndexSyncService {
+
+    private final EduContentRepository eduContentRepository;
+    private final EduContentSearchIndex eduContentSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        eduContentSearchIndex.rebuild(eduContentRepository.findAll());
+        log.info("교육콘텐츠 FAQ 색인 완료 ({}건, {}ms)", eduContentSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    // 삭제되었거나 비활성화된 콘텐츠는 조회되지 않으므로 색인에서 뺀다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEduContentChanged(EduContentChangedEvent event) {
+        eduContentRepository.findById(event.getEduContentId())
+                .ifPresentOrElse(eduContentSearchIndex::upsert, () -> eduContentSearchIndex.delete(event.getEduContentId()));
+    }
+
+}
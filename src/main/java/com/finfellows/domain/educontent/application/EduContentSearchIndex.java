@@ -0,0 +1,160 @@
+package com.finfellows.domain.educontent.application;
+
+import com.finfellows.domain.educontent.domain.EduContent;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// 교육콘텐츠 제목/본문에 대한 메모리 BM25 색인. 한국어는 띄어쓰기와 조사가 일정하지 않아 어절 단위 글자 bigram 을 단어로 쓴다.
+// 콘텐츠 단위로 추가/삭제하므로 변경 시 전체를 다시 만들 필요가 없다.
+@Component
+public class EduContentSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 단어는 본문보다 무겁게 센다.
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedContent> contents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    public void rebuild(List<EduContent> eduContents) {
+        lock.writeLock().lock();
+        try {
+            contents.clear();
+            postings.clear();
+            totalLength = 0;
+            eduContents.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(EduContent eduContent) {
+        lock.writeLock().lock();
+        try {
+            remove(eduContent.getId());
+            add(eduContent);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long eduContentId) {
+        lock.writeLock().lock();
+        try {
+            remove(eduContentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return contents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // confidence 는 질문의 모든 단어가 평균 길이 문서에 한 번씩 나올 때를 1 로 본 점수 비율(최대 1)
+    public List<SearchHit> search(String query, int limit) {
+        Map<String, Integer> queryTerms = termFrequencies(query, null);
+        if (queryTerms.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (contents.isEmpty()) return List.of();
+
+            int documentCount = contents.size();
+            double averageLength = (double) totalLength / documentCount;
+            double fullMatchScore = 0;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : queryTerms.keySet()) {
+                Map<Long, Integer> posting = postings.getOrDefault(term, Map.of());
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                fullMatchScore += idf;
+
+                posting.forEach((id, frequency) -> {
+                    double lengthNorm = 1 - B + B * contents.get(id).length() / averageLength;
+                    double termScore = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                    scores.merge(id, termScore, Double::sum);
+                });
+            }
+
+            double maxScore = fullMatchScore;
+            List<SearchHit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> {
+                IndexedContent content = contents.get(id);
+                hits.add(new SearchHit(id, content.title(), content.content(), score, Math.min(1, score / maxScore)));
+            });
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed().thenComparing(SearchHit::eduContentId));
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 공백/문장부호로 어절을 나누고 어절마다 글자 bigram 을 만든다. 한 글자 어절은 그대로 쓴다.
+    public static Map<String, Integer> termFrequencies(String text, Map<String, Integer> into) {
+        Map<String, Integer> frequencies = into != null ? into : new HashMap<>();
+        if (text == null) return frequencies;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : NON_WORD.split(normalized)) {
+            if (word.isEmpty()) continue;
+            if (word.length() == 1) {
+                frequencies.merge(word, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                frequencies.merge(word.substring(i, i + 2), 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    private void add(EduContent eduContent) {
+        Map<String, Integer> frequencies = termFrequencies(eduContent.getContent(), null);
+        termFrequencies(eduContent.getTitle(), null)
+                .forEach((term, frequency) -> frequencies.merge(term, frequency * TITLE_WEIGHT, Integer::sum));
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        contents.put(eduContent.getId(), new IndexedContent(eduContent.getTitle(), eduContent.getContent(), frequencies.keySet().toArray(String[]::new), length));
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(eduContent.getId(), frequency));
+        totalLength += length;
+    }
+
+    private void remove(Long eduContentId) {
+        IndexedContent removed = contents.remove(eduContentId);
+        if (removed == null) return;
+
+        for (String term : removed.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(eduContentId);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+        totalLength -= removed.length();
+    }
+
+    private record IndexedContent(String title, String content, String[] terms, int length) {
+    }
+
+    public record SearchHit(Long eduContentId, String title, String content, double score, double confidence) {
+    }
+
+}
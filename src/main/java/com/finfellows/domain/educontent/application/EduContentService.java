@@ -1,22 +1,29 @@
 package com.finfellows.domain.educontent.application;
 
+import com.finfellows.domain.bookmark.application.BookmarkResolver;
 import com.finfellows.domain.bookmark.domain.repository.EduContentBookmarkRepository;
 import com.finfellows.domain.educontent.domain.EduContent;
+import com.finfellows.domain.educontent.domain.EduContentChangedEvent;
 import com.finfellows.domain.educontent.domain.repository.EduContentRepository;
 import com.finfellows.domain.educontent.dto.request.EduContentRequest;
 import com.finfellows.domain.educontent.dto.response.EduContentResponse;
 import com.finfellows.domain.post.domain.Post;
 import com.finfellows.domain.post.domain.repository.PostRepository;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +33,11 @@ public class EduContentService {
     private final EduContentRepository eduContentRepository;
     private final PostRepository postRepository;
     private final EduContentBookmarkRepository eduContentBookmarkRepository;
+    private final BookmarkResolver bookmarkResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public EduContent createEduContent(EduContentRequest request) {
+    public EduContentResponse createEduContent(EduContentRequest request) {
         Post post = new Post();
         postRepository.save(post);
 
@@ -41,24 +50,52 @@ public class EduContentService {
 
         // EduContent 저장
         EduContent savedContent = eduContentRepository.save(eduContent);
-        return savedContent;
+        eventPublisher.publishEvent(new EduContentChangedEvent(savedContent.getId()));
+        return EduContentResponse.builder()
+                .id(savedContent.getId())
+                .title(savedContent.getTitle())
+                .content(savedContent.getContent())
+                .build();
     }
 
     public Page<EduContentResponse> getAllEduContents(Long userId, Pageable pageable) {
         Page<EduContent> eduContentPage = eduContentRepository.findAll(pageable);
+        Set<Long> bookmarkedIds = bookmarkedIds(userId, eduContentPage.getContent());
 
         List<EduContentResponse> eduContentResponses = eduContentPage.getContent().stream()
                 .map(eduContent -> EduContentResponse.builder()
                         .id(eduContent.getId())
                         .title(eduContent.getTitle())
                         .content(eduContent.getContent())
-                        .bookmarked(checkBookmarked(userId, eduContent.getId()))
+                        .bookmarked(bookmarkedIds.contains(eduContent.getId()))
                         .build())
                 .collect(Collectors.toList());
 
         return new PageImpl<>(eduContentResponses, pageable, eduContentPage.getTotalElements());
     }
 
+    public CursorSlice<EduContentResponse> getEduContentsByCursor(Long userId, String cursor, int size) {
+        int pageSize = Cursors.size(size);
+        String[] keys = Cursors.decode(cursor, 1);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<EduContent> eduContents = keys == null
+                ? eduContentRepository.findAllByOrderByIdDesc(limit)
+                : eduContentRepository.findByIdLessThanOrderByIdDesc(Cursors.toLong(keys[0]), limit);
+        Set<Long> bookmarkedIds = bookmarkedIds(userId, eduContents);
+
+        List<EduContentResponse> eduContentResponses = eduContents.stream()
+                .map(eduContent -> EduContentResponse.builder()
+                        .id(eduContent.getId())
+                        .title(eduContent.getTitle())
+                        .content(eduContent.getContent())
+                        .bookmarked(userId != null ? bookmarkedIds.contains(eduContent.getId()) : null)
+                        .build())
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(eduContentResponses, pageSize, last -> Cursors.encode(last.getId()));
+    }
+
     public EduContentResponse getEduContent(UserPrincipal userPrincipal, Long id) {
         EduContent eduContent = eduContentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("EduContent not found with id: " + id));
@@ -83,6 +120,7 @@ public class EduContentService {
                 .orElseThrow(() -> new EntityNotFoundException("EduContent not found with id: " + id));
 
         eduContentRepository.delete(eduContent);
+        eventPublisher.publishEvent(new EduContentChangedEvent(id));
     }
 
     @Transactional
@@ -93,6 +131,7 @@ public class EduContentService {
         eduContent.updateContent(request.getTitle(), request.getContent());
 
         EduContent updatedContent = eduContentRepository.save(eduContent);
+        eventPublisher.publishEvent(new EduContentChangedEvent(id));
 
         return EduContentResponse.builder()
                 .id(updatedContent.getId())
@@ -102,6 +141,10 @@ public class EduContentService {
     }
 
 
+    private Set<Long> bookmarkedIds(Long userId, List<EduContent> eduContents) {
+        return bookmarkResolver.findBookmarkedEduContentIds(userId, eduContents.stream().map(EduContent::getId).toList());
+    }
+
     private boolean checkBookmarked(Long userId, Long eduContentId) {
         return eduContentBookmarkRepository.existsByUser_IdAndEduContent_Id(userId, eduContentId);
     }
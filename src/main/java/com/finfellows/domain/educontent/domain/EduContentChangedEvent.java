@@ -0,0 +1,13 @@
+package com.finfellows.domain.educontent.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 교육콘텐츠 생성/수정/삭제. 챗봇 FAQ 색인에 반영한다.
+@Getter
+@RequiredArgsConstructor
+public class EduContentChangedEvent {
+
+    private final Long eduContentId;
+
+}
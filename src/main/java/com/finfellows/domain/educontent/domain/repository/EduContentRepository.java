@@ -1,9 +1,18 @@
 package com.finfellows.domain.educontent.domain.repository;
 
 import com.finfellows.domain.educontent.domain.EduContent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface EduContentRepository extends JpaRepository<EduContent, Long> {
+
+    // 최신순 커서 조회. 크기는 PageRequest.of(0, size)로 넘기며 개수 쿼리는 실행되지 않는다.
+    List<EduContent> findAllByOrderByIdDesc(Pageable pageable);
+
+    List<EduContent> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
 }
@@ -1,11 +1,11 @@
 package com.finfellows.domain.educontent.presentation;
 
 import com.finfellows.domain.educontent.application.EduContentService;
-import com.finfellows.domain.educontent.domain.EduContent;
 import com.finfellows.domain.educontent.dto.request.EduContentRequest;
 import com.finfellows.domain.educontent.dto.response.EduContentResponse;
 import com.finfellows.global.config.security.token.CurrentUser;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,8 +33,8 @@ public class EduContentController {
             @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EduContentResponse.class)))
     })
     @PostMapping("")
-    public ResponseEntity<EduContent> saveEduContent(@RequestBody EduContentRequest request) {
-        EduContent response = eduContentService.createEduContent(request);
+    public ResponseEntity<EduContentResponse> saveEduContent(@RequestBody EduContentRequest request) {
+        EduContentResponse response = eduContentService.createEduContent(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -59,6 +59,17 @@ public class EduContentController {
         return new ResponseEntity<>(responsePage, HttpStatus.OK);
     }
 
+    @Operation(summary = "교육콘텐츠 커서 목록 조회", description = "교육콘텐츠 목록을 최신순 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. 비로그인 시 북마크 여부는 null입니다.")
+    @ApiResponse(responseCode = "200", description = "교육콘텐츠 커서 목록 조회 성공", content = {
+            @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EduContentResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<EduContentResponse>> getEduContentsByCursor(@CurrentUser UserPrincipal userPrincipal, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        CursorSlice<EduContentResponse> response = eduContentService.getEduContentsByCursor(userId, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "교육콘텐츠 상세 내용 조회", description = "교육콘텐츠 상세 내용을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "교육콘텐츠 조회 성공", content = {
             @Content(mediaType = "application/json", schema = @Schema(implementation = EduContentResponse.class))
@@ -5,6 +5,7 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
 import com.finfellows.domain.image.dto.response.ImageResponse;
+import com.finfellows.global.config.datasource.ConnectionPoolMonitor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ImageService {
     private final AmazonS3 amazonS3;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -33,6 +35,7 @@ public class ImageService {
         String changedName = changedImageName(originName); //새로 생성된 이미지 이름
         ObjectMetadata metadata = new ObjectMetadata(); //메타데이터
         metadata.setContentType(image.getContentType());
+        connectionPoolMonitor.beforeExternalCall("s3");
         try {
             PutObjectResult putObjectResult = amazonS3.putObject(new PutObjectRequest(
                     bucketName, changedName, image.getInputStream(), metadata
@@ -1,5 +1,6 @@
 package com.finfellows.domain.newscontent.application;
 
+import com.finfellows.domain.bookmark.application.BookmarkResolver;
 import com.finfellows.domain.bookmark.domain.repository.EduContentBookmarkRepository;
 import com.finfellows.domain.bookmark.domain.repository.NewsContentBookmarkRepository;
 import com.finfellows.domain.newscontent.domain.NewsContent;
@@ -8,15 +9,19 @@ import com.finfellows.domain.newscontent.dto.request.NewsContentRequest;
 import com.finfellows.domain.newscontent.dto.response.NewsContentResponse;
 import com.finfellows.domain.post.domain.Post;
 import com.finfellows.domain.post.domain.repository.PostRepository;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,9 +32,10 @@ public class NewsContentService {
     private final PostRepository postRepository;
     private final EduContentBookmarkRepository eduContentBookmarkRepository;
     private final NewsContentBookmarkRepository newsContentBookmarkRepository;
+    private final BookmarkResolver bookmarkResolver;
 
     @Transactional
-    public NewsContent createNewsContent(NewsContentRequest request) {
+    public NewsContentResponse createNewsContent(NewsContentRequest request) {
         Post post = new Post();
         postRepository.save(post);
 
@@ -42,24 +48,53 @@ public class NewsContentService {
 
         // NewsContent 저장
         NewsContent savedContent = newsContentRepository.save(newsContent);
-        return savedContent;
+        return NewsContentResponse.builder()
+                .id(savedContent.getId())
+                .created_at(savedContent.getCreatedAt())
+                .title(savedContent.getTitle())
+                .content(savedContent.getContent())
+                .build();
     }
 
     public Page<NewsContentResponse> getAllNewsContents(Long userId, Pageable pageable) {
         Page<NewsContent> newsContentsPage = newsContentRepository.findAll(pageable);
+        Set<Long> bookmarkedIds = bookmarkedIds(userId, newsContentsPage.getContent());
         List<NewsContentResponse> newsContentsResponses = newsContentsPage.getContent().stream()
                 .map(newsContent -> NewsContentResponse.builder()
                         .id(newsContent.getId())
                         .created_at(newsContent.getCreatedAt())
                         .title(newsContent.getTitle())
                         .content(newsContent.getContent())
-                        .bookmarked(checkBookmarked(userId, newsContent.getId())) // 북마크 여부 확인
+                        .bookmarked(bookmarkedIds.contains(newsContent.getId())) // 북마크 여부 확인
                         .build())
                 .collect(Collectors.toList());
 
         return new PageImpl<>(newsContentsResponses, pageable, newsContentsPage.getTotalElements());
     }
 
+    public CursorSlice<NewsContentResponse> getNewsContentsByCursor(Long userId, String cursor, int size) {
+        int pageSize = Cursors.size(size);
+        String[] keys = Cursors.decode(cursor, 1);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<NewsContent> newsContents = keys == null
+                ? newsContentRepository.findAllByOrderByIdDesc(limit)
+                : newsContentRepository.findByIdLessThanOrderByIdDesc(Cursors.toLong(keys[0]), limit);
+        Set<Long> bookmarkedIds = bookmarkedIds(userId, newsContents);
+
+        List<NewsContentResponse> newsContentResponses = newsContents.stream()
+                .map(newsContent -> NewsContentResponse.builder()
+                        .id(newsContent.getId())
+                        .created_at(newsContent.getCreatedAt())
+                        .title(newsContent.getTitle())
+                        .content(newsContent.getContent())
+                        .bookmarked(userId != null ? bookmarkedIds.contains(newsContent.getId()) : null)
+                        .build())
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(newsContentResponses, pageSize, last -> Cursors.encode(last.getId()));
+    }
+
     public NewsContentResponse getNewsContent(Long id, Long userId) {
         NewsContent newsContent = newsContentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("NewsContent not found with id: " + id));
@@ -100,6 +135,10 @@ public class NewsContentService {
     }
 
     // 특정 뉴스 콘텐츠에 대한 북마크 여부 확인
+    private Set<Long> bookmarkedIds(Long userId, List<NewsContent> newsContents) {
+        return bookmarkResolver.findBookmarkedNewsContentIds(userId, newsContents.stream().map(NewsContent::getId).toList());
+    }
+
     private boolean checkBookmarked(Long userId, Long newsContentId) {
         return newsContentBookmarkRepository.existsByUser_IdAndNewsContent_Id(userId, newsContentId);
     }
@@ -1,11 +1,11 @@
 package com.finfellows.domain.newscontent.presentation;
 
 import com.finfellows.domain.newscontent.application.NewsContentService;
-import com.finfellows.domain.newscontent.domain.NewsContent;
 import com.finfellows.domain.newscontent.dto.request.NewsContentRequest;
 import com.finfellows.domain.newscontent.dto.response.NewsContentResponse;
 import com.finfellows.global.config.security.token.CurrentUser;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,8 +33,8 @@ public class NewsContentController {
             @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NewsContentResponse.class)))
     })
     @PostMapping("")
-    public ResponseEntity<NewsContent> saveNewsContent(@RequestBody NewsContentRequest request) {
-        NewsContent response = newsContentService.createNewsContent(request);
+    public ResponseEntity<NewsContentResponse> saveNewsContent(@RequestBody NewsContentRequest request) {
+        NewsContentResponse response = newsContentService.createNewsContent(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -58,6 +58,17 @@ public class NewsContentController {
         return new ResponseEntity<>(responsePage, HttpStatus.OK);
     }
 
+    @Operation(summary = "뉴스콘텐츠 커서 목록 조회", description = "뉴스콘텐츠 목록을 최신순 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. 비로그인 시 북마크 여부는 null입니다.")
+    @ApiResponse(responseCode = "200", description = "뉴스콘텐츠 커서 목록 조회 성공", content = {
+            @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NewsContentResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<NewsContentResponse>> getNewsContentsByCursor(@CurrentUser UserPrincipal userPrincipal, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        CursorSlice<NewsContentResponse> response = newsContentService.getNewsContentsByCursor(userId, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "뉴스콘텐츠 상세 내용 조회", description = "뉴스콘텐츠 상세 내용을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "뉴스콘텐츠 조회 성공", content = {
             @Content(mediaType = "application/json", schema = @Schema(implementation = NewsContentResponse.class))
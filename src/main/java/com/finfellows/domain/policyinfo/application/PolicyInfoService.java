@@ -4,12 +4,14 @@ import com.finfellows.domain.policyinfo.dto.PolicyInfoDetailRes;
 import com.finfellows.domain.policyinfo.dto.PolicyUpdateReq;
 import com.finfellows.domain.policyinfo.dto.SearchPolicyInfoRes;
 import com.finfellows.global.config.security.token.UserPrincipal;
-import org.springframework.data.domain.Page;
+import com.finfellows.global.payload.CursorSlice;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 
 public interface PolicyInfoService {
 
-    Page<SearchPolicyInfoRes> findPolicyInfos(UserPrincipal userPrincipal, String searchKeyword, Pageable pageable);
+    Slice<SearchPolicyInfoRes> findPolicyInfos(UserPrincipal userPrincipal, String searchKeyword, Pageable pageable, boolean slice);
+    CursorSlice<SearchPolicyInfoRes> findPolicyInfosByCursor(UserPrincipal userPrincipal, String searchKeyword, String cursor, int size);
     PolicyInfoDetailRes findPolicyDetail(UserPrincipal userPrincipal, Long policyId);
     void deletePolicy(Long policyId);
     void updatePolicy(Long policyId, PolicyUpdateReq policyUpdateReq);
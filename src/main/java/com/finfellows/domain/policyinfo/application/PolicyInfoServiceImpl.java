@@ -1,19 +1,27 @@
 package com.finfellows.domain.policyinfo.application;
 
+import com.finfellows.domain.bookmark.application.BookmarkResolver;
 import com.finfellows.domain.common.Status;
 import com.finfellows.domain.policyinfo.domain.PolicyInfo;
+import com.finfellows.domain.policyinfo.domain.PolicyInfoChangedEvent;
 import com.finfellows.domain.policyinfo.domain.repository.PolicyInfoRepository;
 import com.finfellows.domain.policyinfo.dto.PolicyInfoDetailRes;
 import com.finfellows.domain.policyinfo.dto.PolicyUpdateReq;
 import com.finfellows.domain.policyinfo.dto.SearchPolicyInfoRes;
 import com.finfellows.domain.policyinfo.exception.InvalidPolicyInfoException;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 
 @RequiredArgsConstructor
 @Service
@@ -21,13 +29,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class PolicyInfoServiceImpl implements PolicyInfoService {
 
     private final PolicyInfoRepository policyInfoRepository;
+    private final BookmarkResolver bookmarkResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public Page<SearchPolicyInfoRes> findPolicyInfos(UserPrincipal userPrincipal, String searchKeyword, Pageable pageable) {
-        if (userPrincipal != null) {
-            return policyInfoRepository.findPolicyInfosWithAuthorization(searchKeyword, pageable, userPrincipal.getId());
-        }
-        return policyInfoRepository.findPolicyInfos(searchKeyword, pageable);
+    public Slice<SearchPolicyInfoRes> findPolicyInfos(UserPrincipal userPrincipal, String searchKeyword, Pageable pageable, boolean slice) {
+        Slice<SearchPolicyInfoRes> policyInfos = policyInfoRepository.findPolicyInfos(searchKeyword, pageable, slice);
+        markLiked(userPrincipal, policyInfos.getContent());
+        return policyInfos;
+    }
+
+    @Override
+    public CursorSlice<SearchPolicyInfoRes> findPolicyInfosByCursor(UserPrincipal userPrincipal, String searchKeyword, String cursor, int size) {
+        CursorSlice<SearchPolicyInfoRes> policyInfos = policyInfoRepository.findPolicyInfosByCursor(searchKeyword, cursor, Cursors.size(size));
+        markLiked(userPrincipal, policyInfos.getContent());
+        return policyInfos;
     }
 
     @Override
@@ -45,6 +61,8 @@ public class PolicyInfoServiceImpl implements PolicyInfoService {
                 .orElseThrow(InvalidPolicyInfoException::new);
 
         policy.updateStatus(Status.DELETE);
+        policyInfoRepository.clearSearchCountCache();
+        eventPublisher.publishEvent(new PolicyInfoChangedEvent(policyId));
     }
 
     @Override
@@ -54,6 +72,15 @@ public class PolicyInfoServiceImpl implements PolicyInfoService {
                 .orElseThrow(InvalidPolicyInfoException::new);
 
         policyInfo.updatePolicyInfo(policyUpdateReq);
+        policyInfoRepository.clearSearchCountCache();
+        eventPublisher.publishEvent(new PolicyInfoChangedEvent(policyId));
+    }
+
+    private void markLiked(UserPrincipal userPrincipal, List<SearchPolicyInfoRes> policyInfos) {
+        if (userPrincipal == null) return;
+
+        Set<Long> likedIds = bookmarkResolver.findBookmarkedPolicyInfoIds(userPrincipal.getId(), policyInfos.stream().map(SearchPolicyInfoRes::getPolicyInfoId).toList());
+        policyInfos.forEach(policyInfo -> policyInfo.setIsLiked(likedIds.contains(policyInfo.getPolicyInfoId())));
     }
 
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "PolicyInfo")
+@Table(name = "PolicyInfo", indexes = @Index(name = "idx_policy_info_name", columnList = "poly_biz_sj_nm, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Where(clause = "status = 'ACTIVE'")
@@ -0,0 +1,13 @@
+package com.finfellows.domain.policyinfo.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 정책 정보 수정/삭제. 챗봇 카탈로그 색인에 반영한다.
+@Getter
+@RequiredArgsConstructor
+public class PolicyInfoChangedEvent {
+
+    private final Long policyInfoId;
+
+}
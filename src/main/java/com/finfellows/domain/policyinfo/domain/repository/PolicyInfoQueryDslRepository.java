@@ -2,14 +2,16 @@ package com.finfellows.domain.policyinfo.domain.repository;
 
 import com.finfellows.domain.policyinfo.dto.PolicyInfoDetailRes;
 import com.finfellows.domain.policyinfo.dto.SearchPolicyInfoRes;
-import org.springframework.data.domain.Page;
+import com.finfellows.global.payload.CursorSlice;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 
 public interface PolicyInfoQueryDslRepository {
 
-    Page<SearchPolicyInfoRes> findPolicyInfos(String searchKeyword, Pageable pageable);
-    Page<SearchPolicyInfoRes> findPolicyInfosWithAuthorization(String searchKeyword, Pageable pageable, Long userId);
+    Slice<SearchPolicyInfoRes> findPolicyInfos(String searchKeyword, Pageable pageable, boolean slice);
+    CursorSlice<SearchPolicyInfoRes> findPolicyInfosByCursor(String searchKeyword, String cursor, int size);
     PolicyInfoDetailRes findPolicyDetailWithAuthorization(Long policyId, Long userId);
     PolicyInfoDetailRes findPolicyDetail(Long policyId);
+    void clearSearchCountCache();
 
 }
@@ -6,16 +6,20 @@ import com.finfellows.domain.policyinfo.dto.PolicyInfoDetailRes;
 import com.finfellows.domain.policyinfo.dto.QPolicyInfoDetailRes;
 import com.finfellows.domain.policyinfo.dto.QSearchPolicyInfoRes;
 import com.finfellows.domain.policyinfo.dto.SearchPolicyInfoRes;
+import com.finfellows.global.cache.ExpiringCache;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
+import com.finfellows.global.payload.PageResults;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.List;
 
 import static com.finfellows.domain.policyinfo.domain.QPolicyInfo.*;
@@ -26,40 +30,35 @@ public class PolicyInfoQueryDslRepositoryImpl implements PolicyInfoQueryDslRepos
 
     private final JPAQueryFactory queryFactory;
 
-    @Override
-    public Page<SearchPolicyInfoRes> findPolicyInfosWithAuthorization(String searchKeyword, Pageable pageable, Long userId) {
-        QPolicyInfoBookmark policyInfoBookmark = QPolicyInfoBookmark.policyInfoBookmark;
+    // 같은 검색어의 전체 개수는 잠시 재사용한다.
+    private final ExpiringCache<String, Long> searchCountCache = new ExpiringCache<>(1_000, Duration.ofSeconds(30));
 
+    @Override
+    public Slice<SearchPolicyInfoRes> findPolicyInfos(String searchKeyword, Pageable pageable, boolean slice) {
         List<SearchPolicyInfoRes> results = queryFactory
                 .select(new QSearchPolicyInfoRes(
                         policyInfo.id,
                         policyInfo.polyBizSjNm,
                         policyInfo.polyItcnCn,
-                        policyInfoBookmark.id.isNotNull()
+                        Expressions.constant(false)
                 ))
                 .from(policyInfo)
-                .leftJoin(policyInfoBookmark)
-                .on(policyInfoBookmark.policyInfo.eq(policyInfo).and(policyInfoBookmark.user.id.eq(userId)))
                 .where(
                         searchEq(searchKeyword)
                 )
-                .orderBy(policyInfo.polyBizSjNm.asc())
+                .orderBy(policyInfo.polyBizSjNm.asc(), policyInfo.id.asc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(PageResults.fetchSize(pageable, slice))
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(policyInfo.count())
-                .from(policyInfo)
-                .where(
-                        searchEq(searchKeyword)
-                );
-
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchCount);
+        if (slice) {
+            return PageResults.slice(results, pageable);
+        }
+        return PageableExecutionUtils.getPage(results, pageable, () -> countPolicyInfos(searchKeyword));
     }
 
     @Override
-    public Page<SearchPolicyInfoRes> findPolicyInfos(String searchKeyword, Pageable pageable) {
+    public CursorSlice<SearchPolicyInfoRes> findPolicyInfosByCursor(String searchKeyword, String cursor, int size) {
         List<SearchPolicyInfoRes> results = queryFactory
                 .select(new QSearchPolicyInfoRes(
                         policyInfo.id,
@@ -69,21 +68,14 @@ public class PolicyInfoQueryDslRepositoryImpl implements PolicyInfoQueryDslRepos
                 ))
                 .from(policyInfo)
                 .where(
-                        searchEq(searchKeyword)
+                        searchEq(searchKeyword),
+                        policyInfoAfter(cursor)
                 )
-                .orderBy(policyInfo.polyBizSjNm.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(policyInfo.polyBizSjNm.asc(), policyInfo.id.asc())
+                .limit(size + 1L)
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(policyInfo.count())
-                .from(policyInfo)
-                .where(
-                        searchEq(searchKeyword)
-                );
-
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchCount);
+        return CursorSlice.of(results, size, last -> Cursors.encode(last.getPolicyName(), last.getPolicyInfoId()));
     }
 
     @Override
@@ -155,6 +147,36 @@ public class PolicyInfoQueryDslRepositoryImpl implements PolicyInfoQueryDslRepos
         return result.get(0);
     }
 
+    @Override
+    public void clearSearchCountCache() {
+        searchCountCache.invalidateAll();
+    }
+
+    private Long countPolicyInfos(String searchKeyword) {
+        return searchCountCache.get(searchKeyword == null ? "" : searchKeyword, () -> queryFactory
+                .select(policyInfo.count())
+                .from(policyInfo)
+                .where(
+                        searchEq(searchKeyword)
+                )
+                .fetchOne());
+    }
+
+    // (정책명, id) 기준으로 커서 다음 행부터 읽는다. 정책명이 없는 행은 정렬상 맨 앞에 온다.
+    private BooleanExpression policyInfoAfter(String cursor) {
+        String[] keys = Cursors.decode(cursor, 2);
+        if (keys == null) return null;
+
+        String policyName = keys[0];
+        Long policyInfoId = Cursors.toLong(keys[1]);
+        if (policyName == null) {
+            return policyInfo.polyBizSjNm.isNull().and(policyInfo.id.gt(policyInfoId))
+                    .or(policyInfo.polyBizSjNm.isNotNull());
+        }
+        return policyInfo.polyBizSjNm.gt(policyName)
+                .or(policyInfo.polyBizSjNm.eq(policyName).and(policyInfo.id.gt(policyInfoId)));
+    }
+
     private BooleanExpression searchEq(String searchKeyword) {
         return searchKeyword != null ? policyInfo.polyBizSjNm.contains(searchKeyword).or(policyInfo.polyItcnCn.contains(searchKeyword)) : null;
     }
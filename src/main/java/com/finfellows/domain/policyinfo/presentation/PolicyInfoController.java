@@ -6,6 +6,7 @@ import com.finfellows.domain.policyinfo.dto.PolicyUpdateReq;
 import com.finfellows.domain.policyinfo.dto.SearchPolicyInfoRes;
 import com.finfellows.global.config.security.token.CurrentUser;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
 import com.finfellows.global.payload.ErrorResponse;
 import com.finfellows.global.payload.ResponseCustom;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,7 +18,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 
@@ -35,12 +36,28 @@ public class PolicyInfoController {
             @ApiResponse(responseCode = "400", description = "정책 리스트 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
     })
     @GetMapping
-    public ResponseCustom<Page<SearchPolicyInfoRes>> findPolicyInfos(
+    public ResponseCustom<Slice<SearchPolicyInfoRes>> findPolicyInfos(
             @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "검색어를 입력해 주세요") @RequestParam(required = false) String searchKeyword,
-            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable
+            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable,
+            @Parameter(description = "true 이면 전체 개수 없이 다음 페이지 존재 여부(hasNext)만 반환합니다.") @RequestParam(name = "slice", defaultValue = "false") boolean slice
     ) {
-        return ResponseCustom.OK(policyInfoServiceImpl.findPolicyInfos(userPrincipal, searchKeyword, pageable));
+        return ResponseCustom.OK(policyInfoServiceImpl.findPolicyInfos(userPrincipal, searchKeyword, pageable, slice));
+    }
+
+    @Operation(summary = "정책 리스트 커서 조회", description = "정책 리스트를 조건에 따라 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정책 리스트 커서 조회 성공", content = {@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SearchPolicyInfoRes.class)))}),
+            @ApiResponse(responseCode = "400", description = "정책 리스트 커서 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/cursor")
+    public ResponseCustom<CursorSlice<SearchPolicyInfoRes>> findPolicyInfosByCursor(
+            @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "검색어를 입력해 주세요") @RequestParam(required = false) String searchKeyword,
+            @Parameter(description = "이전 응답의 nextCursor 를 입력해주세요. 첫 페이지는 비워둡니다.") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "조회 할 개수를 입력해주세요 (최대 100)") @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseCustom.OK(policyInfoServiceImpl.findPolicyInfosByCursor(userPrincipal, searchKeyword, cursor, size));
     }
 
     @Operation(summary = "정책 정보 상세 조회", description = "정책 상세정보를 조회합니다.")
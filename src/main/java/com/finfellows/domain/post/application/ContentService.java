@@ -6,10 +6,13 @@ import com.finfellows.domain.post.domain.repository.ContentRepository;
 import com.finfellows.domain.post.domain.repository.PostRepository;
 import com.finfellows.domain.post.dto.request.ContentRequest;
 import com.finfellows.domain.post.dto.response.ContentResponse;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +28,7 @@ public class ContentService {
     private final PostRepository postRepository;
 
     @Transactional
-    public Content createContent(ContentRequest request) {
+    public ContentResponse createContent(ContentRequest request) {
         Post post = new Post();
         postRepository.save(post);
 
@@ -38,7 +41,12 @@ public class ContentService {
 
         // Content 저장
         Content savedContent = contentRepository.save(content);
-        return savedContent;
+        return ContentResponse.builder()
+                .id(savedContent.getId())
+                .created_at(post.getCreatedAt())
+                .title(savedContent.getTitle())
+                .content(savedContent.getContent())
+                .build();
     }
 
     public Page<ContentResponse> getAllContents(Pageable pageable) {
@@ -55,6 +63,27 @@ public class ContentService {
         return new PageImpl<>(contentsResponses, pageable, contentsPage.getTotalElements());
     }
 
+    public CursorSlice<ContentResponse> getContentsByCursor(String cursor, int size) {
+        int pageSize = Cursors.size(size);
+        String[] keys = Cursors.decode(cursor, 1);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Content> contents = keys == null
+                ? contentRepository.findLatestContents(limit)
+                : contentRepository.findContentsBefore(Cursors.toLong(keys[0]), limit);
+
+        List<ContentResponse> contentsResponses = contents.stream()
+                .map(content -> ContentResponse.builder()
+                        .id(content.getId())
+                        .created_at(content.getPost_id().getCreatedAt())
+                        .title(content.getTitle())
+                        .content(content.getContent())
+                        .build())
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(contentsResponses, pageSize, last -> Cursors.encode(last.getId()));
+    }
+
     public ContentResponse getContent(Long id) {
         Content content = contentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Content not found with id: " + id));
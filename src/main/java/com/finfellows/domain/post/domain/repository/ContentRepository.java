@@ -1,9 +1,22 @@
 package com.finfellows.domain.post.domain.repository;
 
 import com.finfellows.domain.post.domain.Content;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ContentRepository extends JpaRepository<Content,Long> {
+
+    // 최신순 커서 조회. 작성일을 위해 Post를 함께 가져온다.
+    @Query("select c from Content c join fetch c.post_id order by c.id desc")
+    List<Content> findLatestContents(Pageable pageable);
+
+    @Query("select c from Content c join fetch c.post_id where c.id < :id order by c.id desc")
+    List<Content> findContentsBefore(@Param("id") Long id, Pageable pageable);
+
 }
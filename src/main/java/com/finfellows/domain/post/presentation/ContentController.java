@@ -4,6 +4,7 @@ import com.finfellows.domain.educontent.dto.response.EduContentResponse;
 import com.finfellows.domain.post.application.ContentService;
 import com.finfellows.domain.post.dto.request.ContentRequest;
 import com.finfellows.domain.post.dto.response.ContentResponse;
+import com.finfellows.global.payload.CursorSlice;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,8 +33,8 @@ public class ContentController {
             @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
     })
     @PostMapping("")
-    public ResponseEntity<com.finfellows.domain.post.domain.Content> saveContent(@RequestBody ContentRequest request) {
-        com.finfellows.domain.post.domain.Content response = contentService.createContent(request);
+    public ResponseEntity<ContentResponse> saveContent(@RequestBody ContentRequest request) {
+        ContentResponse response = contentService.createContent(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -48,6 +49,16 @@ public class ContentController {
     }
 
 
+    @Operation(summary = "공지사항 커서 목록 조회", description = "공지사항 목록을 최신순 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "공지사항 커서 목록 조회 성공", content = {
+            @Content(mediaType = "application/json", schema = @Schema(implementation = ContentResponse.class))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<ContentResponse>> getContentsByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        CursorSlice<ContentResponse> response = contentService.getContentsByCursor(cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "공지사항 조회", description = "공지사항을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "공지사항 조회 성공", content = {
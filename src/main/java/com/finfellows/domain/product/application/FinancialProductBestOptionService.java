@@ -0,0 +1,76 @@
+package com.finfellows.domain.product.application;
+
+import com.finfellows.domain.product.domain.FinancialProduct;
+import com.finfellows.domain.product.domain.FinancialProductBestOption;
+import com.finfellows.domain.product.domain.FinancialProductOption;
+import com.finfellows.domain.product.domain.InterestRateSortType;
+import com.finfellows.domain.product.domain.repository.FinancialProductBestOptionRepository;
+import com.finfellows.domain.product.domain.repository.FinancialProductOptionRepository;
+import com.finfellows.domain.product.domain.repository.FinancialProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class FinancialProductBestOptionService {
+
+    // 기본 금리 우선 정렬 (동률이면 먼저 등록된 옵션)
+    private static final Comparator<FinancialProductOption> ORDER_BY_DEFAULT = Comparator
+            .comparing(FinancialProductOption::getInterestRateValue, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FinancialProductOption::getMaximumPreferredInterestRateValue, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FinancialProductOption::getId, Comparator.reverseOrder());
+
+    // 최고 우대 금리 우선 정렬 (동률이면 먼저 등록된 옵션)
+    private static final Comparator<FinancialProductOption> ORDER_BY_MAX = Comparator
+            .comparing(FinancialProductOption::getMaximumPreferredInterestRateValue, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FinancialProductOption::getInterestRateValue, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FinancialProductOption::getId, Comparator.reverseOrder());
+
+    private final FinancialProductBestOptionRepository financialProductBestOptionRepository;
+    private final FinancialProductOptionRepository financialProductOptionRepository;
+    private final FinancialProductRepository financialProductRepository;
+
+    @Transactional
+    public void rebuildAll() {
+        financialProductBestOptionRepository.deleteAllInBatch();
+        financialProductBestOptionRepository.saveAll(selectBestOptions(financialProductOptionRepository.findAllWithFinancialProduct()));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void rebuild(final Long financialProductId, final String productName) {
+        Set<String> productNames = new HashSet<>();
+        if (productName != null)
+            productNames.add(productName);
+        if (financialProductId != null)
+            financialProductRepository.findById(financialProductId)
+                    .map(FinancialProduct::getProductName)
+                    .ifPresent(productNames::add);
+
+        if (productNames.isEmpty())
+            return;
+
+        financialProductBestOptionRepository.deleteAllByProductNameIn(productNames);
+        financialProductBestOptionRepository.saveAll(selectBestOptions(financialProductOptionRepository.findAllWithFinancialProductByProductNameIn(productNames)));
+    }
+
+    // 상품명 별로 정렬 기준마다 가장 높은 금리의 옵션 하나씩을 고른다.
+    private List<FinancialProductBestOption> selectBestOptions(final List<FinancialProductOption> options) {
+        Map<String, List<FinancialProductOption>> optionsByProductName = options.stream()
+                .filter(option -> option.getFinancialProduct().getProductName() != null)
+                .collect(Collectors.groupingBy(option -> option.getFinancialProduct().getProductName()));
+
+        List<FinancialProductBestOption> bestOptions = new ArrayList<>();
+        for (List<FinancialProductOption> productOptions : optionsByProductName.values()) {
+            bestOptions.add(FinancialProductBestOption.of(InterestRateSortType.DEFAULT, Collections.max(productOptions, ORDER_BY_DEFAULT)));
+            bestOptions.add(FinancialProductBestOption.of(InterestRateSortType.MAX, Collections.max(productOptions, ORDER_BY_MAX)));
+        }
+        return bestOptions;
+    }
+
+}
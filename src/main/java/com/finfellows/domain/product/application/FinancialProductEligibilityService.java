@@ -0,0 +1,31 @@
+package com.finfellows.domain.product.application;
+
+import com.finfellows.domain.product.domain.EligibilityType;
+import com.finfellows.domain.product.domain.FinancialProduct;
+import com.finfellows.domain.product.domain.repository.FinancialProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class FinancialProductEligibilityService {
+
+    private final FinancialProductRepository financialProductRepository;
+
+    @Transactional
+    public void classifyAll() {
+        for (FinancialProduct financialProduct : financialProductRepository.findAllWithEligibilityTypes()) {
+            financialProduct.updateEligibilityTypes(EligibilityType.classify(financialProduct));
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void classify(final Long financialProductId) {
+        financialProductRepository.findById(financialProductId)
+                .ifPresent(financialProduct -> financialProduct.updateEligibilityTypes(EligibilityType.classify(financialProduct)));
+    }
+
+}
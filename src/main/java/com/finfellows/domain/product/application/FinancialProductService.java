@@ -5,8 +5,9 @@ import com.finfellows.domain.product.dto.condition.FinancialProductSearchConditi
 import com.finfellows.domain.product.dto.request.BankUploadReq;
 import com.finfellows.domain.product.dto.response.*;
 import com.finfellows.global.config.security.token.UserPrincipal;
-import org.springframework.data.domain.Page;
+import com.finfellows.global.payload.CursorSlice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -14,12 +15,15 @@ import java.util.List;
 
 public interface FinancialProductService {
 
-    Page<SearchFinancialProductRes> findDepositProducts(UserPrincipal userPrincipal, FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable);
-    Page<SearchFinancialProductRes> findSavingProducts(UserPrincipal userPrincipal, FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable);
+    Slice<SearchFinancialProductRes> findDepositProducts(UserPrincipal userPrincipal, FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable, boolean slice);
+    Slice<SearchFinancialProductRes> findSavingProducts(UserPrincipal userPrincipal, FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable, boolean slice);
+    CursorSlice<SearchFinancialProductRes> findDepositProductsByCursor(UserPrincipal userPrincipal, FinancialProductSearchCondition financialProductSearchCondition, String cursor, int size);
+    CursorSlice<SearchFinancialProductRes> findSavingProductsByCursor(UserPrincipal userPrincipal, FinancialProductSearchCondition financialProductSearchCondition, String cursor, int size);
     DepositDetailRes getDepositDetail(UserPrincipal userPrincipal, Long depositId);
     SavingDetailRes getSavingDetail(UserPrincipal userPrincipal, Long savingId);
     List<SearchBankRes> findBanks(String[] bankType);
-    Page<SearchCmaRes> findCmaProducts(UserPrincipal userPrincipal, CmaSearchCondition cmaSearchCondition, Pageable pageable);
+    Slice<SearchCmaRes> findCmaProducts(UserPrincipal userPrincipal, CmaSearchCondition cmaSearchCondition, Pageable pageable, boolean slice);
+    CursorSlice<SearchCmaRes> findCmaProductsByCursor(UserPrincipal userPrincipal, CmaSearchCondition cmaSearchCondition, String cursor, int size);
     CmaDetailRes getCmaDetail(UserPrincipal userPrincipal, Long cmaId);
     Void bankUpload(BankUploadReq bankUploadReq, String bankLogoImg) throws IOException;
     DepositCalculateRes depositCalculate(Long depositId, Double amount);
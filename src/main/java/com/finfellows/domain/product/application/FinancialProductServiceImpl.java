@@ -1,9 +1,12 @@
 package com.finfellows.domain.product.application;
 
+import com.finfellows.domain.bookmark.application.BookmarkResolver;
 import com.finfellows.domain.bookmark.domain.CmaBookmark;
 import com.finfellows.domain.bookmark.domain.FinancialProductBookmark;
 import com.finfellows.domain.bookmark.domain.repository.CmaBookmarkRepository;
 import com.finfellows.domain.bookmark.domain.repository.FinancialProductBookmarkRepository;
+import com.finfellows.domain.product.catalog.BankRegistry;
+import com.finfellows.domain.product.catalog.ProductCatalog;
 import com.finfellows.domain.product.domain.*;
 import com.finfellows.domain.product.domain.repository.BankRepository;
 import com.finfellows.domain.product.domain.repository.CmaRepository;
@@ -16,15 +19,19 @@ import com.finfellows.domain.product.dto.response.*;
 import com.finfellows.domain.product.exception.InvalidFinancialProductException;
 import com.finfellows.domain.product.exception.ProductTypeMismatchException;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 @Service
@@ -37,21 +44,40 @@ public class FinancialProductServiceImpl implements FinancialProductService {
     private final CmaBookmarkRepository cmaBookmarkRepository;
     private final CmaRepository cmaRepository;
     private final BankRepository bankRepository;
+    private final BankRegistry bankRegistry;
+    private final ProductCatalog productCatalog;
+    private final BookmarkResolver bookmarkResolver;
 
     @Override
-    public Page<SearchFinancialProductRes> findDepositProducts(final UserPrincipal userPrincipal, final FinancialProductSearchCondition financialProductSearchCondition, final Pageable pageable) {
+    public Slice<SearchFinancialProductRes> findDepositProducts(final UserPrincipal userPrincipal, final FinancialProductSearchCondition financialProductSearchCondition, final Pageable pageable, final boolean slice) {
+        if (productCatalog.isLoaded()) {
+            return productCatalog.findFinancialProducts(financialProductSearchCondition, pageable, FinancialProductType.DEPOSIT, likedFinancialProductIds(userPrincipal));
+        }
         if (userPrincipal != null) {
-            return financialProductRepository.findFinancialProductsWithAuthorization(financialProductSearchCondition, pageable, FinancialProductType.DEPOSIT, userPrincipal.getId());
+            return financialProductRepository.findFinancialProductsWithAuthorization(financialProductSearchCondition, pageable, FinancialProductType.DEPOSIT, userPrincipal.getId(), slice);
         }
-        return financialProductRepository.findFinancialProducts(financialProductSearchCondition, pageable, FinancialProductType.DEPOSIT);
+        return financialProductRepository.findFinancialProducts(financialProductSearchCondition, pageable, FinancialProductType.DEPOSIT, slice);
     }
 
     @Override
-    public Page<SearchFinancialProductRes> findSavingProducts(final UserPrincipal userPrincipal, final FinancialProductSearchCondition financialProductSearchCondition, final Pageable pageable) {
+    public Slice<SearchFinancialProductRes> findSavingProducts(final UserPrincipal userPrincipal, final FinancialProductSearchCondition financialProductSearchCondition, final Pageable pageable, final boolean slice) {
+        if (productCatalog.isLoaded()) {
+            return productCatalog.findFinancialProducts(financialProductSearchCondition, pageable, FinancialProductType.SAVING, likedFinancialProductIds(userPrincipal));
+        }
         if (userPrincipal != null) {
-            return financialProductRepository.findFinancialProductsWithAuthorization(financialProductSearchCondition, pageable, FinancialProductType.SAVING, userPrincipal.getId());
+            return financialProductRepository.findFinancialProductsWithAuthorization(financialProductSearchCondition, pageable, FinancialProductType.SAVING, userPrincipal.getId(), slice);
         }
-        return financialProductRepository.findFinancialProducts(financialProductSearchCondition, pageable, FinancialProductType.SAVING);
+        return financialProductRepository.findFinancialProducts(financialProductSearchCondition, pageable, FinancialProductType.SAVING, slice);
+    }
+
+    @Override
+    public CursorSlice<SearchFinancialProductRes> findDepositProductsByCursor(final UserPrincipal userPrincipal, final FinancialProductSearchCondition financialProductSearchCondition, final String cursor, final int size) {
+        return productCatalog.findFinancialProductsAfter(financialProductSearchCondition, cursor, Cursors.size(size), FinancialProductType.DEPOSIT, likedFinancialProductIds(userPrincipal));
+    }
+
+    @Override
+    public CursorSlice<SearchFinancialProductRes> findSavingProductsByCursor(final UserPrincipal userPrincipal, final FinancialProductSearchCondition financialProductSearchCondition, final String cursor, final int size) {
+        return productCatalog.findFinancialProductsAfter(financialProductSearchCondition, cursor, Cursors.size(size), FinancialProductType.SAVING, likedFinancialProductIds(userPrincipal));
     }
 
     @Override
@@ -59,7 +85,7 @@ public class FinancialProductServiceImpl implements FinancialProductService {
         FinancialProduct deposit = financialProductRepository.findById(depositId)
                 .orElseThrow(InvalidFinancialProductException::new);
 
-        Bank bank = bankRepository.findByBankName(deposit.getBankName());
+        Bank bank = bankRegistry.findByBankName(deposit.getBankName());
 
         Optional<FinancialProductBookmark> bookmark = Optional.empty();
         if (userPrincipal != null)
@@ -76,7 +102,7 @@ public class FinancialProductServiceImpl implements FinancialProductService {
                 .toList();
 
         FinancialProductOption maxOption = depositOptions.stream()
-                .max(Comparator.comparing(FinancialProductOption::getMaximumPreferredInterestRate))
+                .max(Comparator.comparing(FinancialProductOption::getMaximumPreferredInterestRateValue, Comparator.nullsFirst(Comparator.naturalOrder())))
                 .orElse(null);
 
         return DepositDetailRes.toDto(bookmark, bank.getBankLogoUrl(), bank.getBankUrl(), deposit, maxOption, terms);
@@ -87,7 +113,7 @@ public class FinancialProductServiceImpl implements FinancialProductService {
         FinancialProduct saving = financialProductRepository.findById(savingId)
                 .orElseThrow(InvalidFinancialProductException::new);
 
-        Bank bank = bankRepository.findByBankName(saving.getBankName());
+        Bank bank = bankRegistry.findByBankName(saving.getBankName());
 
         Optional<FinancialProductBookmark> bookmark = Optional.empty();
         if (userPrincipal != null)
@@ -104,7 +130,7 @@ public class FinancialProductServiceImpl implements FinancialProductService {
                 .toList();
 
         FinancialProductOption maxOption = savingOptions.stream()
-                .max(Comparator.comparing(FinancialProductOption::getMaximumPreferredInterestRate))
+                .max(Comparator.comparing(FinancialProductOption::getMaximumPreferredInterestRateValue, Comparator.nullsFirst(Comparator.naturalOrder())))
                 .orElse(null);
 
         return SavingDetailRes.toDto(bookmark, bank.getBankLogoUrl(), bank.getBankUrl(), saving, maxOption, terms);
@@ -112,15 +138,25 @@ public class FinancialProductServiceImpl implements FinancialProductService {
 
     @Override
     public List<SearchBankRes> findBanks(final String[] bankGroupNo) {
-        return financialProductRepository.findBanks(bankGroupNo);
+        return bankRegistry.findByTopFinancialGroupNos(bankGroupNo).stream()
+                .map(bank -> new SearchBankRes(bank.getBankName(), bank.getBankLogoUrl()))
+                .toList();
     }
 
     @Override
-    public Page<SearchCmaRes> findCmaProducts(UserPrincipal userPrincipal, CmaSearchCondition cmaSearchCondition, Pageable pageable) {
+    public Slice<SearchCmaRes> findCmaProducts(UserPrincipal userPrincipal, CmaSearchCondition cmaSearchCondition, Pageable pageable, boolean slice) {
+        if (productCatalog.isLoaded()) {
+            return productCatalog.findCmaProducts(cmaSearchCondition, pageable, likedCmaIds(userPrincipal));
+        }
         if (userPrincipal != null) {
-            return financialProductRepository.findCmaProductsWithAuthorization(cmaSearchCondition, pageable, userPrincipal.getId());
+            return financialProductRepository.findCmaProductsWithAuthorization(cmaSearchCondition, pageable, userPrincipal.getId(), slice);
         }
-        return financialProductRepository.findCmaProducts(cmaSearchCondition, pageable);
+        return financialProductRepository.findCmaProducts(cmaSearchCondition, pageable, slice);
+    }
+
+    @Override
+    public CursorSlice<SearchCmaRes> findCmaProductsByCursor(final UserPrincipal userPrincipal, final CmaSearchCondition cmaSearchCondition, final String cursor, final int size) {
+        return productCatalog.findCmaProductsAfter(cmaSearchCondition, cursor, Cursors.size(size), likedCmaIds(userPrincipal));
     }
 
     @Override
@@ -128,7 +164,7 @@ public class FinancialProductServiceImpl implements FinancialProductService {
         CMA cma = cmaRepository.findById(cmaId)
                 .orElseThrow(InvalidFinancialProductException::new);
 
-        Bank bank = bankRepository.findByBankName(cma.getBankName());
+        Bank bank = bankRegistry.findByBankName(cma.getBankName());
 
         Optional<CmaBookmark> bookmark = Optional.empty();
         if (userPrincipal != null)
@@ -169,4 +205,14 @@ public class FinancialProductServiceImpl implements FinancialProductService {
         return DepositCalculateRes.toDto(String.format("%.0f", maxInterestRate), String.format("%.0f", interestRate));
     }
 
-}
\ No newline at end of file
+    private Function<List<Long>, Set<Long>> likedFinancialProductIds(final UserPrincipal userPrincipal) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        return ids -> bookmarkResolver.findBookmarkedFinancialProductIds(userId, ids);
+    }
+
+    private Function<List<Long>, Set<Long>> likedCmaIds(final UserPrincipal userPrincipal) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        return ids -> bookmarkResolver.findBookmarkedCmaIds(userId, ids);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.finfellows.domain.product.application;
+
+import com.finfellows.domain.product.catalog.BankRegistry;
+import com.finfellows.domain.product.catalog.ProductCatalog;
+import com.finfellows.domain.product.domain.BankChangedEvent;
+import com.finfellows.domain.product.domain.FinancialProductChangedEvent;
+import com.finfellows.domain.product.domain.ProductCatalogChangedEvent;
+import com.finfellows.domain.product.domain.repository.FinancialProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// 공시 데이터는 외부에서 적재되므로 기동 시 / 요청 시 전체 동기화하고, 애플리케이션을 통한 변경은 상품 단위로 반영한다.
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FinancialProductSyncService {
+
+    private final InterestRateBackfillService interestRateBackfillService;
+    private final FinancialProductEligibilityService financialProductEligibilityService;
+    private final FinancialProductBestOptionService financialProductBestOptionService;
+    private final ProductCatalog productCatalog;
+    private final BankRegistry bankRegistry;
+    private final FinancialProductRepository financialProductRepository;
+
+    // 대표 옵션을 지우고 다시 넣는 동안 다른 동기화가 끼어들면 (정렬 기준, 상품명) 유일 제약에 걸리므로 한 번에 하나만 돌린다.
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncAll() {
+        syncLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            interestRateBackfillService.backfill();
+            financialProductEligibilityService.classifyAll();
+            financialProductBestOptionService.rebuildAll();
+            bankRegistry.reload();
+            productCatalog.reload();
+            financialProductRepository.clearSearchCountCache();
+            log.info("금융 상품 조회 데이터 동기화 완료 ({}ms)", System.currentTimeMillis() - start);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFinancialProductChanged(FinancialProductChangedEvent event) {
+        // 옵션 변경은 가입 대상 분류에 영향이 없다.
+        syncLock.lock();
+        try {
+            if (event.getProductName() != null)
+                financialProductEligibilityService.classify(event.getFinancialProductId());
+            financialProductBestOptionService.rebuild(event.getFinancialProductId(), event.getProductName());
+        } finally {
+            syncLock.unlock();
+        }
+        productCatalog.requestReload();
+        financialProductRepository.clearSearchCountCache();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductCatalogChanged(ProductCatalogChangedEvent event) {
+        productCatalog.requestReload();
+        financialProductRepository.clearSearchCountCache();
+    }
+
+    // 로고 등 은행 정보는 카탈로그에도 들어 있으므로 함께 다시 적재한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChanged(BankChangedEvent event) {
+        bankRegistry.reload();
+        productCatalog.requestReload();
+    }
+
+}
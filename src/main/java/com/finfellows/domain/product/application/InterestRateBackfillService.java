@@ -0,0 +1,24 @@
+package com.finfellows.domain.product.application;
+
+import com.finfellows.domain.product.domain.repository.InterestRateBackfillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class InterestRateBackfillService {
+
+    private final InterestRateBackfillRepository interestRateBackfillRepository;
+
+    @Transactional
+    public void backfill() {
+        long updated = interestRateBackfillRepository.backfillAll();
+        if (updated > 0)
+            log.info("숫자 금리 컬럼 {}건 보정", updated);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.finfellows.domain.product.catalog;
+
+import com.finfellows.domain.product.domain.Bank;
+import com.finfellows.domain.product.domain.repository.BankRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 은행 정보는 건수가 적고 거의 바뀌지 않으므로 통째로 메모리에 올려 두고 이름/코드/권역으로 바로 찾는다.
+// 은행 등록 시에는 커밋 이후 다시 적재한다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BankRegistry {
+
+    private final BankRepository bankRepository;
+
+    // 적재 중 DB 조회를 기다리므로 synchronized 대신 ReentrantLock 을 쓴다.
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Banks banks;
+
+    public Bank findByBankName(String bankName) {
+        return bankName == null ? null : banks().byName.get(bankName);
+    }
+
+    public Bank findByBankCode(String bankCode) {
+        return bankCode == null ? null : banks().byCode.get(bankCode);
+    }
+
+    // 권역을 지정하지 않으면 전체 은행을 이름순으로 반환한다.
+    public List<Bank> findByTopFinancialGroupNos(String[] topFinancialGroupNos) {
+        Banks current = banks();
+        if (topFinancialGroupNos == null || topFinancialGroupNos.length == 0) return current.all;
+
+        Set<String> groupNos = Set.of(Arrays.stream(topFinancialGroupNos).distinct().toArray(String[]::new));
+        if (groupNos.size() == 1) return current.byGroupNo.getOrDefault(groupNos.iterator().next(), List.of());
+
+        return current.all.stream()
+                .filter(bank -> groupNos.contains(bank.getTopFinancialGroupNo()))
+                .toList();
+    }
+
+    public void reload() {
+        Banks loaded = Banks.of(bankRepository.findAll());
+        banks = loaded;
+        log.info("은행 정보 적재 완료 ({}건)", loaded.all.size());
+    }
+
+    private Banks banks() {
+        Banks current = banks;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                if (banks == null) reload();
+                current = banks;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static final class Banks {
+
+        private final List<Bank> all;
+        private final Map<String, Bank> byName;
+        private final Map<String, Bank> byCode;
+        private final Map<String, List<Bank>> byGroupNo;
+
+        private Banks(List<Bank> banks) {
+            // 같은 이름이 중복 등록된 경우 먼저 등록된 은행을 사용한다.
+            List<Bank> sortedById = banks.stream()
+                    .sorted(Comparator.comparing(Bank::getId))
+                    .toList();
+
+            this.byName = sortedById.stream()
+                    .filter(bank -> bank.getBankName() != null)
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.toMap(Bank::getBankName, Function.identity(), (first, second) -> first, LinkedHashMap::new),
+                            Collections::unmodifiableMap));
+            this.byCode = sortedById.stream()
+                    .filter(bank -> bank.getBankCode() != null)
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.toMap(Bank::getBankCode, Function.identity(), (first, second) -> first),
+                            Collections::unmodifiableMap));
+            this.all = byName.values().stream()
+                    .sorted(Comparator.comparing(Bank::getBankName))
+                    .toList();
+            this.byGroupNo = all.stream()
+                    .filter(bank -> bank.getTopFinancialGroupNo() != null)
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.groupingBy(Bank::getTopFinancialGroupNo, Collectors.toUnmodifiableList()),
+                            Collections::unmodifiableMap));
+        }
+
+        private static Banks of(List<Bank> banks) {
+            return new Banks(banks);
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.finfellows.domain.product.catalog;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+final class CatalogPages {
+
+    private CatalogPages() {
+    }
+
+    // 조건을 만족하는 행 중 요청한 페이지에 해당하는 행 번호만 정렬 순서대로 꺼낸다.
+    static List<Integer> slice(BitSet matched, Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+        int row = matched.nextSetBit(0);
+        for (long skipped = 0; skipped < offset && row >= 0; skipped++) {
+            row = matched.nextSetBit(row + 1);
+        }
+
+        List<Integer> rows = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        for (; row >= 0 && rows.size() < limit; row = matched.nextSetBit(row + 1)) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    static List<Integer> sliceFrom(BitSet matched, int fromRow, int limit) {
+        List<Integer> rows = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        for (int row = matched.nextSetBit(fromRow); row >= 0 && rows.size() < limit; row = matched.nextSetBit(row + 1)) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // 금리 내림차순, 값이 없는 금리는 맨 뒤
+    static int compareRateDesc(BigDecimal rate, BigDecimal other) {
+        if (rate == null) return other == null ? 0 : 1;
+        if (other == null) return -1;
+        return other.compareTo(rate);
+    }
+
+    static <T> Page<T> page(List<T> content, Pageable pageable, long total) {
+        return new PageImpl<>(content, pageable, total);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.finfellows.domain.product.catalog;
+
+import com.finfellows.domain.product.domain.Bank;
+import com.finfellows.domain.product.domain.CMA;
+import com.finfellows.domain.product.domain.CmaType;
+import com.finfellows.domain.product.dto.condition.CmaSearchCondition;
+import com.finfellows.domain.product.dto.response.SearchCmaRes;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+// 금리 내림차순으로 배치된 CMA 읽기 전용 인덱스
+final class CmaIndex {
+
+    private static final Comparator<CMA> ORDER_BY_MATURITY_INTEREST_RATE = Comparator
+            .comparing(CMA::getMaturityInterestRateValue, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(CMA::getId);
+
+    private final int size;
+    private final long[] cmaIds;
+    private final BigDecimal[] maturityInterestRateValues;
+    private final String[] productNames;
+    private final String[] bankNames;
+    private final String[] bankLogoUrls;
+    private final String[] maturityInterestRates;
+
+    private final Map<String, BitSet> cmaTypeBits;
+    private final Map<String, BitSet> bankNameBits;
+
+    private CmaIndex(List<CMA> cmas, Function<String, Bank> bankResolver) {
+        List<CMA> sorted = new ArrayList<>(cmas);
+        sorted.sort(ORDER_BY_MATURITY_INTEREST_RATE);
+
+        this.size = sorted.size();
+        this.cmaIds = new long[size];
+        this.maturityInterestRateValues = new BigDecimal[size];
+        this.productNames = new String[size];
+        this.bankNames = new String[size];
+        this.bankLogoUrls = new String[size];
+        this.maturityInterestRates = new String[size];
+        this.cmaTypeBits = new HashMap<>();
+        this.bankNameBits = new HashMap<>();
+
+        for (int row = 0; row < size; row++) {
+            CMA cma = sorted.get(row);
+            Bank bank = cma.getBankName() == null ? null : bankResolver.apply(cma.getBankName());
+
+            cmaIds[row] = cma.getId();
+            maturityInterestRateValues[row] = cma.getMaturityInterestRateValue();
+            productNames[row] = cma.getProductName();
+            maturityInterestRates[row] = cma.getMaturityInterestRate();
+            if (bank != null) {
+                bankNames[row] = bank.getBankName();
+                bankLogoUrls[row] = bank.getBankLogoUrl();
+            }
+
+            if (cma.getCmaType() != null)
+                cmaTypeBits.computeIfAbsent(cma.getCmaType(), type -> new BitSet(size)).set(row);
+            if (cma.getBankName() != null)
+                bankNameBits.computeIfAbsent(cma.getBankName(), name -> new BitSet(size)).set(row);
+        }
+    }
+
+    static CmaIndex of(List<CMA> cmas, Function<String, Bank> bankResolver) {
+        return new CmaIndex(cmas, bankResolver);
+    }
+
+    Page<SearchCmaRes> search(CmaSearchCondition condition, Pageable pageable, Function<List<Long>, Set<Long>> likedResolver) {
+        BitSet matched = match(condition);
+        List<Integer> rows = CatalogPages.slice(matched, pageable);
+        return CatalogPages.page(toResponses(rows, likedResolver), pageable, matched.cardinality());
+    }
+
+    // 커서는 (만기 금리, CMA id)
+    CursorSlice<SearchCmaRes> searchAfter(CmaSearchCondition condition, String cursor, int pageSize, Function<List<Long>, Set<Long>> likedResolver) {
+        String[] keys = Cursors.decode(cursor, 2);
+        int fromRow = keys == null ? 0 : firstRowAfter(Cursors.toDecimal(keys[0]), Cursors.toLong(keys[1]));
+
+        List<Integer> rows = CatalogPages.sliceFrom(match(condition), fromRow, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        String nextCursor = null;
+        if (hasNext) {
+            int last = rows.get(rows.size() - 1);
+            nextCursor = Cursors.encode(maturityInterestRateValues[last], cmaIds[last]);
+        }
+        return new CursorSlice<>(toResponses(rows, likedResolver), nextCursor);
+    }
+
+    private BitSet match(CmaSearchCondition condition) {
+        BitSet matched = new BitSet(size);
+        matched.set(0, size);
+
+        String[] cmaTypes = condition.getCmaTypes();
+        if (cmaTypes != null && cmaTypes.length > 0) {
+            String[] values = Arrays.stream(cmaTypes)
+                    .map(cmaType -> CmaType.fromString(cmaType).getValue())
+                    .toArray(String[]::new);
+            retainAny(matched, cmaTypeBits, values);
+        }
+        retainAny(matched, bankNameBits, condition.getBankNames());
+        return matched;
+    }
+
+    private List<SearchCmaRes> toResponses(List<Integer> rows, Function<List<Long>, Set<Long>> likedResolver) {
+        List<Long> ids = rows.stream().map(row -> cmaIds[row]).toList();
+        Set<Long> likedIds = ids.isEmpty() ? Set.of() : likedResolver.apply(ids);
+
+        List<SearchCmaRes> content = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            long id = cmaIds[row];
+            content.add(new SearchCmaRes(id, likedIds.contains(id), productNames[row], bankNames[row], bankLogoUrls[row], maturityInterestRates[row]));
+        }
+        return content;
+    }
+
+    private int firstRowAfter(BigDecimal maturityInterestRate, long cmaId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compared = CatalogPages.compareRateDesc(maturityInterestRateValues[mid], maturityInterestRate);
+            if (compared == 0) compared = Long.compare(cmaIds[mid], cmaId);
+
+            if (compared <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private void retainAny(BitSet matched, Map<String, BitSet> bits, String[] keys) {
+        if (keys == null || keys.length == 0) return;
+
+        BitSet union = new BitSet(size);
+        for (String key : keys) {
+            BitSet keyBits = bits.get(key);
+            if (keyBits != null) union.or(keyBits);
+        }
+        matched.and(union);
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.finfellows.domain.product.catalog;
+
+import com.finfellows.domain.product.domain.Bank;
+import com.finfellows.domain.product.domain.EligibilityType;
+import com.finfellows.domain.product.domain.FinancialProduct;
+import com.finfellows.domain.product.domain.FinancialProductBestOption;
+import com.finfellows.domain.product.domain.InterestRateSortType;
+import com.finfellows.domain.product.dto.condition.FinancialProductSearchCondition;
+import com.finfellows.domain.product.dto.response.SearchFinancialProductRes;
+import com.finfellows.global.payload.CursorSlice;
+import com.finfellows.global.payload.Cursors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+// 예금/적금 한 종류의 정렬 기준 하나에 대한 읽기 전용 인덱스
+// 행은 정렬 순서대로 배치되어 있어 조건 비트셋의 교집합을 앞에서부터 읽으면 곧 정렬된 결과가 된다.
+final class FinancialProductIndex {
+
+    private static final int NO_MAX_LIMIT = -1;
+
+    private final int size;
+    private final long[] financialProductIds;
+    // 정렬 기준 금리, 보조 금리 (커서 위치 탐색용)
+    private final BigDecimal[] primaryRates;
+    private final BigDecimal[] secondaryRates;
+    private final String[] productNames;
+    private final String[] bankNames;
+    private final String[] bankLogoUrls;
+    private final String[] maxInterestRates;
+    private final String[] interestRates;
+    private final int[] maxLimits;
+    private final String[] joinMembers;
+    private final String[] specialConditions;
+    private final String[] etcNotes;
+
+    private final Map<String, BitSet> bankNameBits;
+    private final Map<String, BitSet> bankGroupNoBits;
+    private final Map<Integer, BitSet> termBits;
+    private final Map<EligibilityType, BitSet> eligibilityTypeBits;
+
+    private FinancialProductIndex(List<FinancialProductBestOption> bestOptions, InterestRateSortType sortType, Map<Long, FinancialProduct> financialProducts, Map<Long, Set<EligibilityType>> eligibilityTypes, Function<String, Bank> bankResolver) {
+        this.size = bestOptions.size();
+        this.financialProductIds = new long[size];
+        this.primaryRates = new BigDecimal[size];
+        this.secondaryRates = new BigDecimal[size];
+        this.productNames = new String[size];
+        this.bankNames = new String[size];
+        this.bankLogoUrls = new String[size];
+        this.maxInterestRates = new String[size];
+        this.interestRates = new String[size];
+        this.maxLimits = new int[size];
+        this.joinMembers = new String[size];
+        this.specialConditions = new String[size];
+        this.etcNotes = new String[size];
+        this.bankNameBits = new HashMap<>();
+        this.bankGroupNoBits = new HashMap<>();
+        this.termBits = new HashMap<>();
+        this.eligibilityTypeBits = new EnumMap<>(EligibilityType.class);
+
+        for (int row = 0; row < size; row++) {
+            FinancialProductBestOption bestOption = bestOptions.get(row);
+            FinancialProduct financialProduct = financialProducts.get(bestOption.getFinancialProductId());
+            Bank bank = bestOption.getBankName() == null ? null : bankResolver.apply(bestOption.getBankName());
+
+            financialProductIds[row] = bestOption.getFinancialProductId();
+            primaryRates[row] = sortType == InterestRateSortType.DEFAULT ? bestOption.getInterestRateValue() : bestOption.getMaximumPreferredInterestRateValue();
+            secondaryRates[row] = sortType == InterestRateSortType.DEFAULT ? bestOption.getMaximumPreferredInterestRateValue() : bestOption.getInterestRateValue();
+            productNames[row] = bestOption.getProductName();
+            bankNames[row] = bestOption.getBankName();
+            maxInterestRates[row] = bestOption.getMaximumPreferredInterestRate();
+            interestRates[row] = bestOption.getInterestRate();
+            maxLimits[row] = NO_MAX_LIMIT;
+
+            if (bestOption.getSavingsTerm() != null)
+                termBits.computeIfAbsent(bestOption.getSavingsTerm(), term -> new BitSet(size)).set(row);
+
+            if (bank != null) {
+                bankLogoUrls[row] = bank.getBankLogoUrl();
+                bankNameBits.computeIfAbsent(bank.getBankName(), name -> new BitSet(size)).set(row);
+                if (bank.getTopFinancialGroupNo() != null)
+                    bankGroupNoBits.computeIfAbsent(bank.getTopFinancialGroupNo(), groupNo -> new BitSet(size)).set(row);
+            }
+
+            if (financialProduct != null) {
+                if (financialProduct.getMaxLimit() != null)
+                    maxLimits[row] = financialProduct.getMaxLimit();
+                joinMembers[row] = financialProduct.getJoinMember();
+                specialConditions[row] = financialProduct.getSpecialCondition();
+                etcNotes[row] = financialProduct.getEtcNote();
+            }
+
+            for (EligibilityType eligibilityType : eligibilityTypes.getOrDefault(bestOption.getFinancialProductId(), Set.of())) {
+                eligibilityTypeBits.computeIfAbsent(eligibilityType, type -> new BitSet(size)).set(row);
+            }
+        }
+    }
+
+    static FinancialProductIndex of(List<FinancialProductBestOption> sortedBestOptions, InterestRateSortType sortType, Map<Long, FinancialProduct> financialProducts, Map<Long, Set<EligibilityType>> eligibilityTypes, Function<String, Bank> bankResolver) {
+        return new FinancialProductIndex(sortedBestOptions, sortType, financialProducts, eligibilityTypes, bankResolver);
+    }
+
+    Page<SearchFinancialProductRes> search(FinancialProductSearchCondition condition, Pageable pageable, Function<List<Long>, Set<Long>> likedResolver) {
+        BitSet matched = match(condition);
+        List<Integer> rows = CatalogPages.slice(matched, pageable);
+        return CatalogPages.page(toResponses(rows, likedResolver), pageable, matched.cardinality());
+    }
+
+    // 커서는 (정렬 기준 금리, 보조 금리, 상품 id). 적재가 다시 일어나 행 번호가 바뀌어도 같은 위치에서 이어서 읽는다.
+    CursorSlice<SearchFinancialProductRes> searchAfter(FinancialProductSearchCondition condition, String cursor, int pageSize, Function<List<Long>, Set<Long>> likedResolver) {
+        String[] keys = Cursors.decode(cursor, 3);
+        int fromRow = keys == null ? 0 : firstRowAfter(Cursors.toDecimal(keys[0]), Cursors.toDecimal(keys[1]), Cursors.toLong(keys[2]));
+
+        List<Integer> rows = CatalogPages.sliceFrom(match(condition), fromRow, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        String nextCursor = null;
+        if (hasNext) {
+            int last = rows.get(rows.size() - 1);
+            nextCursor = Cursors.encode(primaryRates[last], secondaryRates[last], financialProductIds[last]);
+        }
+        return new CursorSlice<>(toResponses(rows, likedResolver), nextCursor);
+    }
+
+    private BitSet match(FinancialProductSearchCondition condition) {
+        BitSet matched = new BitSet(size);
+        matched.set(0, size);
+
+        retainAny(matched, bankGroupNoBits, condition.getBankGroupNos());
+        retainAny(matched, bankNameBits, condition.getBankNames());
+        retainAny(matched, termBits, condition.getTerms());
+        retainTypes(matched, condition.getTypes());
+        retainMaxLimit(matched, condition.getMaxLimit());
+        return matched;
+    }
+
+    private List<SearchFinancialProductRes> toResponses(List<Integer> rows, Function<List<Long>, Set<Long>> likedResolver) {
+        List<Long> ids = rows.stream().map(row -> financialProductIds[row]).toList();
+        Set<Long> likedIds = ids.isEmpty() ? Set.of() : likedResolver.apply(ids);
+
+        List<SearchFinancialProductRes> content = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            long id = financialProductIds[row];
+            content.add(new SearchFinancialProductRes(id, likedIds.contains(id), productNames[row], bankNames[row], bankLogoUrls[row], maxInterestRates[row], interestRates[row]));
+        }
+        return content;
+    }
+
+    // 행은 (금리 내림차순, null은 뒤로, id 오름차순)으로 정렬되어 있으므로 이분 탐색으로 커서 다음 행을 찾는다.
+    private int firstRowAfter(BigDecimal primaryRate, BigDecimal secondaryRate, long financialProductId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compared = CatalogPages.compareRateDesc(primaryRates[mid], primaryRate);
+            if (compared == 0) compared = CatalogPages.compareRateDesc(secondaryRates[mid], secondaryRate);
+            if (compared == 0) compared = Long.compare(financialProductIds[mid], financialProductId);
+
+            if (compared <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private <K> void retainAny(BitSet matched, Map<K, BitSet> bits, K[] keys) {
+        if (keys == null || keys.length == 0) return;
+
+        BitSet union = new BitSet(size);
+        for (K key : keys) {
+            BitSet keyBits = bits.get(key);
+            if (keyBits != null) union.or(keyBits);
+        }
+        matched.and(union);
+    }
+
+    private void retainTypes(BitSet matched, String[] types) {
+        if (types == null || types.length == 0) return;
+
+        BitSet union = new BitSet(size);
+        for (String type : types) {
+            Optional<EligibilityType> eligibilityType = EligibilityType.fromLabel(type);
+            if (eligibilityType.isPresent()) {
+                BitSet typeBits = eligibilityTypeBits.get(eligibilityType.get());
+                if (typeBits != null) union.or(typeBits);
+                continue;
+            }
+            for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+                if (contains(joinMembers[row], type) || contains(productNames[row], type)
+                        || contains(specialConditions[row], type) || contains(etcNotes[row], type))
+                    union.set(row);
+            }
+        }
+        matched.and(union);
+    }
+
+    // 한도가 없는 상품(0)은 항상 포함
+    private void retainMaxLimit(BitSet matched, Integer maxLimit) {
+        if (maxLimit == null) return;
+
+        for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+            if (maxLimits[row] == NO_MAX_LIMIT || (maxLimits[row] < maxLimit && maxLimits[row] != 0))
+                matched.clear(row);
+        }
+    }
+
+    private static boolean contains(String text, String keyword) {
+        return text != null && text.contains(keyword);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.finfellows.domain.product.catalog;
+
+import com.finfellows.domain.product.domain.FinancialProductType;
+import com.finfellows.domain.product.dto.condition.CmaSearchCondition;
+import com.finfellows.domain.product.dto.condition.FinancialProductSearchCondition;
+import com.finfellows.domain.product.dto.response.SearchCmaRes;
+import com.finfellows.domain.product.dto.response.SearchFinancialProductRes;
+import com.finfellows.global.payload.CursorSlice;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// 예금/적금/CMA 검색용 인메모리 카탈로그. DB는 원본으로만 사용한다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductCatalog {
+
+    private final ProductCatalogLoader productCatalogLoader;
+
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-catalog-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reloadRequested = new AtomicBoolean(false);
+    // 적재 중 DB 조회를 기다리므로 synchronized 대신 ReentrantLock 을 쓴다.
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile ProductCatalogSnapshot snapshot;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    // 커서 조회는 DB 대체 경로가 없으므로 기동 직후 적재 전이라면 먼저 적재한다.
+    public void ensureLoaded() {
+        if (snapshot != null) return;
+        loadLock.lock();
+        try {
+            if (snapshot == null) reload();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public void reload() {
+        long start = System.currentTimeMillis();
+        ProductCatalogSnapshot loaded = productCatalogLoader.load();
+        snapshot = loaded;
+        log.info("상품 카탈로그 적재 완료 (상품 {}건, CMA {}건, {}ms)", loaded.getFinancialProductCount(), loaded.getCmaCount(), System.currentTimeMillis() - start);
+    }
+
+    // 변경 이벤트가 연달아 들어와도 적재는 한 번씩만 수행하고, 실패하면 기존 카탈로그를 유지한다.
+    public void requestReload() {
+        if (!reloadRequested.compareAndSet(false, true)) return;
+
+        reloadExecutor.execute(() -> {
+            reloadRequested.set(false);
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.error("상품 카탈로그 적재 실패", e);
+            }
+        });
+    }
+
+    public Page<SearchFinancialProductRes> findFinancialProducts(FinancialProductSearchCondition condition, Pageable pageable, FinancialProductType financialProductType, Function<List<Long>, Set<Long>> likedResolver) {
+        return snapshot.findFinancialProducts(condition, pageable, financialProductType, likedResolver);
+    }
+
+    public CursorSlice<SearchFinancialProductRes> findFinancialProductsAfter(FinancialProductSearchCondition condition, String cursor, int size, FinancialProductType financialProductType, Function<List<Long>, Set<Long>> likedResolver) {
+        ensureLoaded();
+        return snapshot.findFinancialProductsAfter(condition, cursor, size, financialProductType, likedResolver);
+    }
+
+    public Page<SearchCmaRes> findCmaProducts(CmaSearchCondition condition, Pageable pageable, Function<List<Long>, Set<Long>> likedResolver) {
+        return snapshot.findCmaProducts(condition, pageable, likedResolver);
+    }
+
+    public CursorSlice<SearchCmaRes> findCmaProductsAfter(CmaSearchCondition condition, String cursor, int size, Function<List<Long>, Set<Long>> likedResolver) {
+        ensureLoaded();
+        return snapshot.findCmaProductsAfter(condition, cursor, size, likedResolver);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.finfellows.domain.product.catalog;
+
+import com.finfellows.domain.product.domain.repository.CmaRepository;
+import com.finfellows.domain.product.domain.repository.FinancialProductBestOptionRepository;
+import com.finfellows.domain.product.domain.repository.FinancialProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Component
+@Transactional(readOnly = true)
+public class ProductCatalogLoader {
+
+    private final FinancialProductBestOptionRepository financialProductBestOptionRepository;
+    private final FinancialProductRepository financialProductRepository;
+    private final CmaRepository cmaRepository;
+    private final BankRegistry bankRegistry;
+
+    public ProductCatalogSnapshot load() {
+        return ProductCatalogSnapshot.of(
+                financialProductBestOptionRepository.findAll(),
+                financialProductRepository.findAll(),
+                financialProductRepository.findEligibilityTypes(),
+                cmaRepository.findAll(),
+                // 은행 이름은 BankRegistry 와 같은 규칙(중복 시 먼저 등록된 은행)으로 찾는다.
+                bankRegistry::findByBankName
+        );
+    }
+
+}
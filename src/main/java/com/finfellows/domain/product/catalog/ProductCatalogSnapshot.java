@@ -0,0 +1,95 @@
+package com.finfellows.domain.product.catalog;
+
+import com.finfellows.domain.product.domain.*;
+import com.finfellows.domain.product.dto.condition.CmaSearchCondition;
+import com.finfellows.domain.product.dto.condition.FinancialProductSearchCondition;
+import com.finfellows.domain.product.dto.response.SearchCmaRes;
+import com.finfellows.domain.product.dto.response.SearchFinancialProductRes;
+import com.finfellows.global.payload.CursorSlice;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 한 번 만들어지면 변경되지 않는 카탈로그. 변경 시에는 새로 만들어 통째로 교체한다.
+final class ProductCatalogSnapshot {
+
+    private static final Comparator<FinancialProductBestOption> ORDER_BY_DEFAULT = Comparator
+            .comparing(FinancialProductBestOption::getInterestRateValue, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FinancialProductBestOption::getMaximumPreferredInterestRateValue, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FinancialProductBestOption::getFinancialProductId);
+
+    private static final Comparator<FinancialProductBestOption> ORDER_BY_MAX = Comparator
+            .comparing(FinancialProductBestOption::getMaximumPreferredInterestRateValue, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FinancialProductBestOption::getInterestRateValue, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FinancialProductBestOption::getFinancialProductId);
+
+    private static final FinancialProductIndex EMPTY_INDEX = FinancialProductIndex.of(List.of(), InterestRateSortType.DEFAULT, Map.of(), Map.of(), bankName -> null);
+
+    private final Map<FinancialProductType, Map<InterestRateSortType, FinancialProductIndex>> financialProductIndexes;
+    private final CmaIndex cmaIndex;
+    private final int financialProductCount;
+    private final int cmaCount;
+
+    private ProductCatalogSnapshot(List<FinancialProductBestOption> bestOptions, List<FinancialProduct> financialProducts, Map<Long, Set<EligibilityType>> eligibilityTypes, List<CMA> cmas, Function<String, Bank> bankResolver) {
+        Map<Long, FinancialProduct> financialProductsById = financialProducts.stream()
+                .collect(Collectors.toMap(FinancialProduct::getId, Function.identity()));
+
+        this.financialProductIndexes = new EnumMap<>(FinancialProductType.class);
+        Map<FinancialProductType, Map<InterestRateSortType, List<FinancialProductBestOption>>> grouped = bestOptions.stream()
+                .filter(bestOption -> bestOption.getFinancialProductType() != null)
+                .collect(Collectors.groupingBy(FinancialProductBestOption::getFinancialProductType,
+                        Collectors.groupingBy(FinancialProductBestOption::getSortType)));
+
+        grouped.forEach((financialProductType, bySortType) -> {
+            Map<InterestRateSortType, FinancialProductIndex> indexes = new EnumMap<>(InterestRateSortType.class);
+            bySortType.forEach((sortType, options) -> {
+                List<FinancialProductBestOption> sorted = new ArrayList<>(options);
+                sorted.sort(sortType == InterestRateSortType.DEFAULT ? ORDER_BY_DEFAULT : ORDER_BY_MAX);
+                indexes.put(sortType, FinancialProductIndex.of(sorted, sortType, financialProductsById, eligibilityTypes, bankResolver));
+            });
+            financialProductIndexes.put(financialProductType, indexes);
+        });
+
+        this.cmaIndex = CmaIndex.of(cmas, bankResolver);
+        this.financialProductCount = bestOptions.size();
+        this.cmaCount = cmas.size();
+    }
+
+    static ProductCatalogSnapshot of(List<FinancialProductBestOption> bestOptions, List<FinancialProduct> financialProducts, Map<Long, Set<EligibilityType>> eligibilityTypes, List<CMA> cmas, Function<String, Bank> bankResolver) {
+        return new ProductCatalogSnapshot(bestOptions, financialProducts, eligibilityTypes, cmas, bankResolver);
+    }
+
+    Page<SearchFinancialProductRes> findFinancialProducts(FinancialProductSearchCondition condition, Pageable pageable, FinancialProductType financialProductType, Function<List<Long>, Set<Long>> likedResolver) {
+        InterestRateSortType sortType = InterestRateSortType.fromString(condition.getInterestRateType());
+        return financialProductIndexes.getOrDefault(financialProductType, Map.of())
+                .getOrDefault(sortType, EMPTY_INDEX)
+                .search(condition, pageable, likedResolver);
+    }
+
+    CursorSlice<SearchFinancialProductRes> findFinancialProductsAfter(FinancialProductSearchCondition condition, String cursor, int size, FinancialProductType financialProductType, Function<List<Long>, Set<Long>> likedResolver) {
+        InterestRateSortType sortType = InterestRateSortType.fromString(condition.getInterestRateType());
+        return financialProductIndexes.getOrDefault(financialProductType, Map.of())
+                .getOrDefault(sortType, EMPTY_INDEX)
+                .searchAfter(condition, cursor, size, likedResolver);
+    }
+
+    Page<SearchCmaRes> findCmaProducts(CmaSearchCondition condition, Pageable pageable, Function<List<Long>, Set<Long>> likedResolver) {
+        return cmaIndex.search(condition, pageable, likedResolver);
+    }
+
+    CursorSlice<SearchCmaRes> findCmaProductsAfter(CmaSearchCondition condition, String cursor, int size, Function<List<Long>, Set<Long>> likedResolver) {
+        return cmaIndex.searchAfter(condition, cursor, size, likedResolver);
+    }
+
+    int getFinancialProductCount() {
+        return financialProductCount;
+    }
+
+    int getCmaCount() {
+        return cmaCount;
+    }
+
+}
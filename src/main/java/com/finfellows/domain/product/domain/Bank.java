@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "Bank")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@EntityListeners(FinancialProductEntityListener.class)
 public class Bank extends BaseEntity {
 
     @Id
@@ -0,0 +1,5 @@
+package com.finfellows.domain.product.domain;
+
+// 은행 등록/수정. 은행 정보 캐시와 카탈로그를 다시 적재한다.
+public class BankChangedEvent {
+}
@@ -8,13 +8,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "CMA")
+@Table(name = "CMA", indexes = {
+        @Index(name = "idx_cma_maturity_interest_rate_value", columnList = "maturity_interest_rate_value"),
+        @Index(name = "idx_cma_type_maturity_interest_rate_value", columnList = "cma_type, maturity_interest_rate_value")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@EntityListeners(FinancialProductEntityListener.class)
 public class CMA extends BaseEntity {
 
     @Id
@@ -37,6 +42,9 @@ public class CMA extends BaseEntity {
     @Column(name="maturity_interest_rate")
     private String maturityInterestRate;
 
+    @Column(name = "maturity_interest_rate_value", precision = InterestRates.PRECISION, scale = InterestRates.SCALE)
+    private BigDecimal maturityInterestRateValue;
+
     @Column(name="special_condition")
     private String specialCondition;
 
@@ -69,4 +77,10 @@ public class CMA extends BaseEntity {
         this.depositProtection = depositProtection;
     }
 
+    @PrePersist
+    @PreUpdate
+    public void syncInterestRateValues() {
+        this.maturityInterestRateValue = InterestRates.parse(maturityInterestRate);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.finfellows.domain.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+// 상품 저장 시점에 분류해 두는 가입 대상 / 유형 코드
+@AllArgsConstructor
+@Getter
+public enum EligibilityType {
+
+    OPEN_TO_ANYONE("누구나 가입", true, List.of(
+            "제한없음", "실명의 개인", "개인(개인사업자 포함)", "만 14세 이상 개인고객",
+            "만 17세 이상 실명의 개인 및 개인사업자", "실명의 개인 또는 개인사업자 (1인 다계좌 가입 가능함)",
+            "거래대상자는 제한을 두지 않으나, 국가 및 지방자치단체는 거래 불가능", "만 19세 이상의 개인",
+            "인터넷 및 모바일뱅킹 사용자", "누구나 가입 가능", "모든 고객",
+            "만 19세 이상 실명의 개인고객 (1인 1계좌 한정)", "실명의 개인, 법인", "인터넷뱅킹, 스마트폰뱅킹 전용"
+    )),
+    YOUTH("청년", false, List.of("청년")),
+    SOLDIER("군인", false, List.of("군인"));
+
+    private final String label;
+
+    // true 이면 가입 대상(joinMember)만, false 이면 상품명 / 우대 조건 / 기타 유의사항까지 확인
+    private final boolean joinMemberOnly;
+
+    private final List<String> keywords;
+
+    public static Optional<EligibilityType> fromLabel(String label) {
+        for (EligibilityType eligibilityType : values()) {
+            if (eligibilityType.label.equals(label)) {
+                return Optional.of(eligibilityType);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Set<EligibilityType> classify(FinancialProduct financialProduct) {
+        Set<EligibilityType> eligibilityTypes = EnumSet.noneOf(EligibilityType.class);
+        for (EligibilityType eligibilityType : values()) {
+            if (eligibilityType.matches(financialProduct)) {
+                eligibilityTypes.add(eligibilityType);
+            }
+        }
+        return eligibilityTypes;
+    }
+
+    private boolean matches(FinancialProduct financialProduct) {
+        Stream<String> texts = joinMemberOnly
+                ? Stream.of(financialProduct.getJoinMember())
+                : Stream.of(financialProduct.getJoinMember(), financialProduct.getProductName(), financialProduct.getSpecialCondition(), financialProduct.getEtcNote());
+
+        return texts.filter(Objects::nonNull)
+                .anyMatch(text -> keywords.stream().anyMatch(text::contains));
+    }
+
+}
@@ -9,15 +9,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "Financial_Product")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@EntityListeners(FinancialProductEntityListener.class)
 public class FinancialProduct extends BaseEntity {
 
     @Id
@@ -46,6 +50,9 @@ public class FinancialProduct extends BaseEntity {
     @Column(name = "maturity_interest_rate")
     private String maturityInterestRate;
 
+    @Column(name = "maturity_interest_rate_value", precision = InterestRates.PRECISION, scale = InterestRates.SCALE)
+    private BigDecimal maturityInterestRateValue;
+
     @Column(name = "special_condition")
     private String specialCondition;
 
@@ -77,6 +84,16 @@ public class FinancialProduct extends BaseEntity {
     @OneToMany(mappedBy = "financialProduct", fetch = FetchType.LAZY)
     private List<FinancialProductOption> financialProductOption;
 
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(
+            name = "Financial_Product_Eligibility",
+            joinColumns = @JoinColumn(name = "financial_product_id"),
+            indexes = @Index(name = "idx_eligibility_type_financial_product", columnList = "eligibility_type, financial_product_id")
+    )
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "eligibility_type")
+    private Set<EligibilityType> eligibilityTypes = new HashSet<>();
+
     @OneToMany(mappedBy = "financialProduct", cascade = CascadeType.ALL)
     private List<FinancialProductBookmark> financialProductBookmarkList = new ArrayList<>();
 
@@ -101,4 +118,17 @@ public class FinancialProduct extends BaseEntity {
         this.financialProductOption = financialProductOption;
     }
 
+    public void updateEligibilityTypes(Set<EligibilityType> eligibilityTypes) {
+        if (this.eligibilityTypes.equals(eligibilityTypes)) return;
+
+        this.eligibilityTypes.clear();
+        this.eligibilityTypes.addAll(eligibilityTypes);
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void syncInterestRateValues() {
+        this.maturityInterestRateValue = InterestRates.parse(maturityInterestRate);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.finfellows.domain.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// 상품명 별 대표 옵션(정렬 기준 별 1건)을 미리 계산해 둔 조회용 테이블
+@Entity
+@Table(
+        name = "Financial_Product_Best_Option",
+        uniqueConstraints = @UniqueConstraint(name = "uk_best_option_sort_type_product_name", columnNames = {"sort_type", "product_name"}),
+        indexes = {
+                @Index(name = "idx_best_option_default_order", columnList = "sort_type, financial_product_type, interest_rate_value, maximum_preferred_interest_rate_value"),
+                @Index(name = "idx_best_option_max_order", columnList = "sort_type, financial_product_type, maximum_preferred_interest_rate_value, interest_rate_value")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class FinancialProductBestOption {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "sort_type", nullable = false)
+    private InterestRateSortType sortType;
+
+    @Column(name = "financial_product_id", nullable = false)
+    private Long financialProductId;
+
+    @Column(name = "financial_product_option_id", nullable = false)
+    private Long financialProductOptionId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "financial_product_type")
+    private FinancialProductType financialProductType;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(name = "bank_name")
+    private String bankName;
+
+    @Column(name = "maximum_preferred_interest_rate")
+    private String maximumPreferredInterestRate;
+
+    @Column(name = "interest_rate")
+    private String interestRate;
+
+    @Column(name = "interest_rate_value", precision = InterestRates.PRECISION, scale = InterestRates.SCALE)
+    private BigDecimal interestRateValue;
+
+    @Column(name = "maximum_preferred_interest_rate_value", precision = InterestRates.PRECISION, scale = InterestRates.SCALE)
+    private BigDecimal maximumPreferredInterestRateValue;
+
+    @Column(name = "savings_term")
+    private Integer savingsTerm;
+
+    @Builder
+    public FinancialProductBestOption(InterestRateSortType sortType, Long financialProductId, Long financialProductOptionId, FinancialProductType financialProductType, String productName, String bankName, String maximumPreferredInterestRate, String interestRate, BigDecimal maximumPreferredInterestRateValue, BigDecimal interestRateValue, Integer savingsTerm) {
+        this.sortType = sortType;
+        this.financialProductId = financialProductId;
+        this.financialProductOptionId = financialProductOptionId;
+        this.financialProductType = financialProductType;
+        this.productName = productName;
+        this.bankName = bankName;
+        this.maximumPreferredInterestRate = maximumPreferredInterestRate;
+        this.interestRate = interestRate;
+        this.maximumPreferredInterestRateValue = maximumPreferredInterestRateValue;
+        this.interestRateValue = interestRateValue;
+        this.savingsTerm = savingsTerm;
+    }
+
+    public static FinancialProductBestOption of(InterestRateSortType sortType, FinancialProductOption option) {
+        FinancialProduct financialProduct = option.getFinancialProduct();
+
+        return FinancialProductBestOption.builder()
+                .sortType(sortType)
+                .financialProductId(financialProduct.getId())
+                .financialProductOptionId(option.getId())
+                .financialProductType(financialProduct.getFinancialProductType())
+                .productName(financialProduct.getProductName())
+                .bankName(financialProduct.getBankName())
+                .maximumPreferredInterestRate(option.getMaximumPreferredInterestRate())
+                .interestRate(option.getInterestRate())
+                .maximumPreferredInterestRateValue(option.getMaximumPreferredInterestRateValue())
+                .interestRateValue(option.getInterestRateValue())
+                .savingsTerm(option.getSavingsTerm())
+                .build();
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.finfellows.domain.product.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class FinancialProductChangedEvent {
+
+    private final Long financialProductId;
+
+    // 상품 자체가 변경된 경우에만 채워지며, 옵션 변경 시에는 null
+    private final String productName;
+
+}
@@ -0,0 +1,32 @@
+package com.finfellows.domain.product.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class FinancialProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof FinancialProduct financialProduct) {
+            eventPublisher.publishEvent(new FinancialProductChangedEvent(financialProduct.getId(), financialProduct.getProductName()));
+        } else if (entity instanceof FinancialProductOption option && option.getFinancialProduct() != null) {
+            // 프록시 초기화 없이 식별자만 사용
+            eventPublisher.publishEvent(new FinancialProductChangedEvent(option.getFinancialProduct().getId(), null));
+        } else if (entity instanceof CMA) {
+            eventPublisher.publishEvent(new ProductCatalogChangedEvent());
+        } else if (entity instanceof Bank) {
+            eventPublisher.publishEvent(new BankChangedEvent());
+        }
+    }
+
+}
@@ -8,10 +8,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
+import java.math.BigDecimal;
+
 @Entity
 @Table(name = "Financial_Product_Option")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@EntityListeners(FinancialProductEntityListener.class)
 public class FinancialProductOption extends BaseEntity {
 
     @Id
@@ -43,6 +46,12 @@ public class FinancialProductOption extends BaseEntity {
     @Column(name = "maximum_preferred_interest_rate")
     private String maximumPreferredInterestRate;
 
+    @Column(name = "interest_rate_value", precision = InterestRates.PRECISION, scale = InterestRates.SCALE)
+    private BigDecimal interestRateValue;
+
+    @Column(name = "maximum_preferred_interest_rate_value", precision = InterestRates.PRECISION, scale = InterestRates.SCALE)
+    private BigDecimal maximumPreferredInterestRateValue;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "financial_product_id")
     private FinancialProduct financialProduct;
@@ -60,4 +69,11 @@ public class FinancialProductOption extends BaseEntity {
         this.financialProduct = financialProduct;
     }
 
+    @PrePersist
+    @PreUpdate
+    public void syncInterestRateValues() {
+        this.interestRateValue = InterestRates.parse(interestRate);
+        this.maximumPreferredInterestRateValue = InterestRates.parse(maximumPreferredInterestRate);
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.finfellows.domain.product.domain;
+
+public enum InterestRateSortType {
+    DEFAULT,
+    MAX;
+
+    public static InterestRateSortType fromString(String text) {
+        return "DEFAULT".equals(text) ? DEFAULT : MAX;
+    }
+}
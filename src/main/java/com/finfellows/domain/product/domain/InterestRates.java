@@ -0,0 +1,29 @@
+package com.finfellows.domain.product.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 공시 데이터의 문자열 금리를 정렬 가능한 숫자 값으로 변환
+public final class InterestRates {
+
+    public static final int PRECISION = 6;
+    public static final int SCALE = 3;
+
+    private InterestRates() {
+    }
+
+    public static BigDecimal parse(String rate) {
+        if (rate == null) return null;
+
+        String value = rate.replace("%", "").trim();
+        if (value.isEmpty()) return null;
+
+        try {
+            return new BigDecimal(value).setScale(SCALE, RoundingMode.HALF_UP);
+        } catch (NumberFormatException e) {
+            // 만기 후 이율 안내 문구처럼 숫자가 아닌 값은 정렬 대상에서 제외
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.finfellows.domain.product.domain;
+
+// CMA 처럼 대표 옵션 계산 없이 카탈로그만 다시 적재하면 되는 변경
+public class ProductCatalogChangedEvent {
+}
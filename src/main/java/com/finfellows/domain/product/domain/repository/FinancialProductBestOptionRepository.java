@@ -0,0 +1,17 @@
+package com.finfellows.domain.product.domain.repository;
+
+import com.finfellows.domain.product.domain.FinancialProductBestOption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface FinancialProductBestOptionRepository extends JpaRepository<FinancialProductBestOption, Long> {
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from FinancialProductBestOption b where b.productName in :productNames")
+    void deleteAllByProductNameIn(@Param("productNames") Collection<String> productNames);
+
+}
@@ -2,13 +2,21 @@ package com.finfellows.domain.product.domain.repository;
 
 import com.finfellows.domain.product.domain.FinancialProduct;
 import com.finfellows.domain.product.domain.FinancialProductOption;
-import jakarta.persistence.Entity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FinancialProductOptionRepository extends JpaRepository<FinancialProductOption, Long> {
 
     List<FinancialProductOption> findFinancialProductOptionsByFinancialProduct(FinancialProduct financialProduct);
 
+    @Query("select o from FinancialProductOption o join fetch o.financialProduct")
+    List<FinancialProductOption> findAllWithFinancialProduct();
+
+    @Query("select o from FinancialProductOption o join fetch o.financialProduct fp where fp.productName in :productNames")
+    List<FinancialProductOption> findAllWithFinancialProductByProductNameIn(@Param("productNames") Collection<String> productNames);
+
 }
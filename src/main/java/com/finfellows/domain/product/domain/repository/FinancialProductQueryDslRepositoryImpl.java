@@ -6,25 +6,32 @@ import com.finfellows.domain.product.domain.*;
 import com.finfellows.domain.product.dto.condition.CmaSearchCondition;
 import com.finfellows.domain.product.dto.condition.FinancialProductSearchCondition;
 import com.finfellows.domain.product.dto.response.*;
+import com.finfellows.global.cache.ExpiringCache;
+import com.finfellows.global.payload.PageResults;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.*;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static com.finfellows.domain.product.domain.QBank.*;
 import static com.finfellows.domain.product.domain.QCMA.*;
 import static com.finfellows.domain.product.domain.QFinancialProduct.*;
-import static com.finfellows.domain.product.domain.QFinancialProductOption.*;
-import static com.finfellows.domain.product.domain.repository.QFinancialProductOptionOrderByDefault.*;
-import static com.finfellows.domain.product.domain.repository.QFinancialProductOptionOrderByMax.*;
+import static com.finfellows.domain.product.domain.QFinancialProductBestOption.*;
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.set;
 
 @RequiredArgsConstructor
 @Repository
@@ -32,211 +39,71 @@ public class FinancialProductQueryDslRepositoryImpl implements FinancialProductQ
 
     private final JPAQueryFactory queryFactory;
 
+    // 같은 조건의 전체 개수는 잠시 재사용한다.
+    private final ExpiringCache<String, Long> searchCountCache = new ExpiringCache<>(1_000, Duration.ofSeconds(30));
+
     @Override
-    public Page<SearchFinancialProductRes> findFinancialProductsWithAuthorization(FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable, FinancialProductType financialProductType, Long userId) {
+    public Slice<SearchFinancialProductRes> findFinancialProductsWithAuthorization(FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable, FinancialProductType financialProductType, Long userId, boolean slice) {
         QFinancialProductBookmark financialProductBookmark = QFinancialProductBookmark.financialProductBookmark;
-        String interestRateType = financialProductSearchCondition.getInterestRateType();
-        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
-
-        List<SearchFinancialProductRes> results;
-        JPAQuery<Long> countQuery;
-
-        if ("DEFAULT".equals(interestRateType)) {
-            orderSpecifiers.add(financialProductOptionOrderByDefault.interestRate.desc());
-            orderSpecifiers.add(financialProductOptionOrderByDefault.maximumPreferredInterestRate.desc());
-
-            results = queryFactory
-                    .select(new QSearchFinancialProductRes(
-                            financialProductOptionOrderByDefault.financialProductId,
-                            financialProductBookmark.id.isNotNull(),
-                            financialProductOptionOrderByDefault.productName,
-                            financialProductOptionOrderByDefault.bankName,
-                            bank.bankLogoUrl,
-                            financialProductOptionOrderByDefault.maximumPreferredInterestRate,
-                            financialProductOptionOrderByDefault.interestRate
-                    ))
-                    .from(financialProductOptionOrderByDefault)
-                    .leftJoin(bank).on(financialProductOptionOrderByDefault.bankName.eq(bank.bankName))
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByDefault.financialProductId.eq(financialProduct.id))
-                    .leftJoin(financialProductBookmark).on(financialProduct.id.eq(financialProductBookmark.financialProduct.id).and(financialProductBookmark.user.id.eq(userId)))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByDefault.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    )
-                    .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-
-            countQuery = queryFactory
-                    .select(financialProductOptionOrderByDefault.count())
-                    .from(financialProductOptionOrderByDefault)
-                    .leftJoin(bank).on(financialProductOptionOrderByDefault.bankName.eq(bank.bankName))
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByDefault.financialProductId.eq(financialProduct.id))
-                    .leftJoin(financialProductBookmark).on(financialProduct.id.eq(financialProductBookmark.financialProduct.id).and(financialProductBookmark.user.id.eq(userId)))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByDefault.savingsTerm.in(financialProductSearchCondition.getTerms()) : null
-                    );
-        } else {
-            orderSpecifiers.add(financialProductOptionOrderByMax.maximumPreferredInterestRate.desc());
-            orderSpecifiers.add(financialProductOptionOrderByMax.interestRate.desc());
-
-            results = queryFactory
-                    .select(new QSearchFinancialProductRes(
-                            financialProductOptionOrderByMax.financialProductId,
-                            financialProductBookmark.id.isNotNull(),
-                            financialProductOptionOrderByMax.productName,
-                            financialProductOptionOrderByMax.bankName,
-                            bank.bankLogoUrl,
-                            financialProductOptionOrderByMax.maximumPreferredInterestRate,
-                            financialProductOptionOrderByMax.interestRate
-                    ))
-                    .from(financialProductOptionOrderByMax)
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByMax.financialProductId.eq(financialProduct.id))
-                    .leftJoin(bank).on(financialProductOptionOrderByMax.bankName.eq(bank.bankName))
-                    .leftJoin(financialProductBookmark).on(financialProduct.id.eq(financialProductBookmark.financialProduct.id).and(financialProductBookmark.user.id.eq(userId)))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByMax.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    )
-                    .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-
-            countQuery = queryFactory
-                    .select(financialProductOptionOrderByMax.count())
-                    .from(financialProductOptionOrderByMax)
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByMax.financialProductId.eq(financialProduct.id))
-                    .leftJoin(bank).on(financialProductOptionOrderByMax.bankName.eq(bank.bankName))
-                    .leftJoin(financialProductBookmark).on(financialProduct.id.eq(financialProductBookmark.financialProduct.id).and(financialProductBookmark.user.id.eq(userId)))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByMax.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    );
-        }
+        InterestRateSortType sortType = InterestRateSortType.fromString(financialProductSearchCondition.getInterestRateType());
+
+        List<SearchFinancialProductRes> results = queryFactory
+                .select(new QSearchFinancialProductRes(
+                        financialProductBestOption.financialProductId,
+                        financialProductBookmark.id.isNotNull(),
+                        financialProductBestOption.productName,
+                        financialProductBestOption.bankName,
+                        bank.bankLogoUrl,
+                        financialProductBestOption.maximumPreferredInterestRate,
+                        financialProductBestOption.interestRate
+                ))
+                .from(financialProductBestOption)
+                .leftJoin(financialProduct).on(financialProductBestOption.financialProductId.eq(financialProduct.id))
+                .leftJoin(bank).on(financialProductBestOption.bankName.eq(bank.bankName))
+                .leftJoin(financialProductBookmark).on(financialProduct.id.eq(financialProductBookmark.financialProduct.id).and(financialProductBookmark.user.id.eq(userId)))
+                .where(financialProductSearchEq(financialProductSearchCondition, financialProductType, sortType))
+                .orderBy(bestOptionOrderBy(sortType))
+                .offset(pageable.getOffset())
+                .limit(PageResults.fetchSize(pageable, slice))
+                .fetch();
 
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+        if (slice) {
+            return PageResults.slice(results, pageable);
+        }
+        return PageableExecutionUtils.getPage(results, pageable, () -> countFinancialProducts(financialProductSearchCondition, financialProductType, sortType));
     }
 
     @Override
-    public Page<SearchFinancialProductRes> findFinancialProducts(FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable, FinancialProductType financialProductType) {
-        String interestRateType = financialProductSearchCondition.getInterestRateType();
-        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
-
-        List<SearchFinancialProductRes> results;
-        JPAQuery<Long> countQuery;
-
-        if ("DEFAULT".equals(interestRateType)) {
-            orderSpecifiers.add(financialProductOptionOrderByDefault.interestRate.desc());
-            orderSpecifiers.add(financialProductOptionOrderByDefault.maximumPreferredInterestRate.desc());
-
-            results = queryFactory
-                    .select(new QSearchFinancialProductRes(
-                            financialProductOptionOrderByDefault.financialProductId,
-                            Expressions.constant(false),
-                            financialProductOptionOrderByDefault.productName,
-                            financialProductOptionOrderByDefault.bankName,
-                            bank.bankLogoUrl,
-                            financialProductOptionOrderByDefault.maximumPreferredInterestRate,
-                            financialProductOptionOrderByDefault.interestRate
-                    ))
-                    .from(financialProductOptionOrderByDefault)
-                    .leftJoin(bank).on(financialProductOptionOrderByDefault.bankName.eq(bank.bankName))
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByDefault.financialProductId.eq(financialProduct.id))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByDefault.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    )
-                    .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-
-            countQuery = queryFactory
-                    .select(financialProductOptionOrderByDefault.count())
-                    .from(financialProductOptionOrderByDefault)
-                    .leftJoin(bank).on(financialProductOptionOrderByDefault.bankName.eq(bank.bankName))
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByDefault.financialProductId.eq(financialProduct.id))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByDefault.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    );
-        } else {
-            orderSpecifiers.add(financialProductOptionOrderByMax.maximumPreferredInterestRate.desc());
-            orderSpecifiers.add(financialProductOptionOrderByMax.interestRate.desc());
-
-            results = queryFactory
-                    .select(new QSearchFinancialProductRes(
-                            financialProductOptionOrderByMax.financialProductId,
-                            Expressions.constant(false),
-                            financialProductOptionOrderByMax.productName,
-                            financialProductOptionOrderByMax.bankName,
-                            bank.bankLogoUrl,
-                            financialProductOptionOrderByMax.maximumPreferredInterestRate,
-                            financialProductOptionOrderByMax.interestRate
-                    ))
-                    .from(financialProductOptionOrderByMax)
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByMax.financialProductId.eq(financialProduct.id))
-                    .leftJoin(bank).on(financialProductOptionOrderByMax.bankName.eq(bank.bankName))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByMax.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    )
-                    .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-
-            countQuery = queryFactory
-                    .select(financialProductOptionOrderByMax.count())
-                    .from(financialProductOptionOrderByMax)
-                    .leftJoin(financialProduct).on(financialProductOptionOrderByMax.financialProductId.eq(financialProduct.id))
-                    .leftJoin(bank).on(financialProductOptionOrderByMax.bankName.eq(bank.bankName))
-                    .where(
-                            financialProduct.financialProductType.eq(financialProductType),
-                            typeEq(financialProductSearchCondition.getTypes()),
-                            bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
-                            financialProductSearchCondition.getTerms() != null ? financialProductOptionOrderByMax.savingsTerm.in(financialProductSearchCondition.getTerms()) : null,
-                            bankNameEq(financialProductSearchCondition.getBankNames()),
-                            maxLimitGoe(financialProductSearchCondition.getMaxLimit())
-                    );
-        }
+    public Slice<SearchFinancialProductRes> findFinancialProducts(FinancialProductSearchCondition financialProductSearchCondition, Pageable pageable, FinancialProductType financialProductType, boolean slice) {
+        InterestRateSortType sortType = InterestRateSortType.fromString(financialProductSearchCondition.getInterestRateType());
+
+        List<SearchFinancialProductRes> results = queryFactory
+                .select(new QSearchFinancialProductRes(
+                        financialProductBestOption.financialProductId,
+                        Expressions.constant(false),
+                        financialProductBestOption.productName,
+                        financialProductBestOption.bankName,
+                        bank.bankLogoUrl,
+                        financialProductBestOption.maximumPreferredInterestRate,
+                        financialProductBestOption.interestRate
+                ))
+                .from(financialProductBestOption)
+                .leftJoin(financialProduct).on(financialProductBestOption.financialProductId.eq(financialProduct.id))
+                .leftJoin(bank).on(financialProductBestOption.bankName.eq(bank.bankName))
+                .where(financialProductSearchEq(financialProductSearchCondition, financialProductType, sortType))
+                .orderBy(bestOptionOrderBy(sortType))
+                .offset(pageable.getOffset())
+                .limit(PageResults.fetchSize(pageable, slice))
+                .fetch();
 
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+        if (slice) {
+            return PageResults.slice(results, pageable);
+        }
+        return PageableExecutionUtils.getPage(results, pageable, () -> countFinancialProducts(financialProductSearchCondition, financialProductType, sortType));
     }
 
     @Override
-    public Page<SearchCmaRes> findCmaProductsWithAuthorization(CmaSearchCondition cmaSearchCondition, Pageable pageable, Long userId) {
+    public Slice<SearchCmaRes> findCmaProductsWithAuthorization(CmaSearchCondition cmaSearchCondition, Pageable pageable, Long userId, boolean slice) {
         QCmaBookmark cmaBookmark = QCmaBookmark.cmaBookmark;
 
         List<SearchCmaRes> results = queryFactory
@@ -255,26 +122,19 @@ public class FinancialProductQueryDslRepositoryImpl implements FinancialProductQ
                         cmaTypeEq(cmaSearchCondition.getCmaTypes()),
                         cmaBankNameEq(cmaSearchCondition.getBankNames())
                 )
-                .orderBy(cMA.maturityInterestRate.desc())
+                .orderBy(cMA.maturityInterestRateValue.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(PageResults.fetchSize(pageable, slice))
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(cMA.count())
-                .from(cMA)
-                .leftJoin(cmaBookmark).on(cmaBookmark.cma.eq(cMA).and(cmaBookmark.user.id.eq(userId)))
-                .leftJoin(bank).on(cMA.bankName.eq(bank.bankName))
-                .where(
-                        cmaTypeEq(cmaSearchCondition.getCmaTypes()),
-                        cmaBankNameEq(cmaSearchCondition.getBankNames())
-                );
-
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+        if (slice) {
+            return PageResults.slice(results, pageable);
+        }
+        return PageableExecutionUtils.getPage(results, pageable, () -> countCmaProducts(cmaSearchCondition));
     }
 
     @Override
-    public Page<SearchCmaRes> findCmaProducts(CmaSearchCondition cmaSearchCondition, Pageable pageable) {
+    public Slice<SearchCmaRes> findCmaProducts(CmaSearchCondition cmaSearchCondition, Pageable pageable, boolean slice) {
         List<SearchCmaRes> results = queryFactory
                 .select(new QSearchCmaRes(
                         cMA.id,
@@ -290,34 +150,88 @@ public class FinancialProductQueryDslRepositoryImpl implements FinancialProductQ
                         cmaTypeEq(cmaSearchCondition.getCmaTypes()),
                         cmaBankNameEq(cmaSearchCondition.getBankNames())
                 )
-                .orderBy(cMA.maturityInterestRate.desc())
+                .orderBy(cMA.maturityInterestRateValue.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(PageResults.fetchSize(pageable, slice))
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
+        if (slice) {
+            return PageResults.slice(results, pageable);
+        }
+        return PageableExecutionUtils.getPage(results, pageable, () -> countCmaProducts(cmaSearchCondition));
+    }
+
+    @Override
+    public Map<Long, Set<EligibilityType>> findEligibilityTypes() {
+        EnumPath<EligibilityType> eligibilityType = Expressions.enumPath(EligibilityType.class, "eligibilityType");
+
+        return queryFactory
+                .from(financialProduct)
+                .innerJoin(financialProduct.eligibilityTypes, eligibilityType)
+                .transform(groupBy(financialProduct.id).as(set(eligibilityType)));
+    }
+
+    @Override
+    public void clearSearchCountCache() {
+        searchCountCache.invalidateAll();
+    }
+
+    private Long countFinancialProducts(FinancialProductSearchCondition financialProductSearchCondition, FinancialProductType financialProductType, InterestRateSortType sortType) {
+        String key = String.join(":", financialProductType.name(), sortType.name(),
+                Arrays.toString(financialProductSearchCondition.getBankGroupNos()),
+                Arrays.toString(financialProductSearchCondition.getTerms()),
+                Arrays.toString(financialProductSearchCondition.getTypes()),
+                Arrays.toString(financialProductSearchCondition.getBankNames()),
+                String.valueOf(financialProductSearchCondition.getMaxLimit()));
+
+        return searchCountCache.get(key, () -> queryFactory
+                .select(financialProductBestOption.count())
+                .from(financialProductBestOption)
+                .leftJoin(financialProduct).on(financialProductBestOption.financialProductId.eq(financialProduct.id))
+                .leftJoin(bank).on(financialProductBestOption.bankName.eq(bank.bankName))
+                .where(financialProductSearchEq(financialProductSearchCondition, financialProductType, sortType))
+                .fetchOne());
+    }
+
+    private Long countCmaProducts(CmaSearchCondition cmaSearchCondition) {
+        String key = String.join(":", FinancialProductType.CMA.name(),
+                Arrays.toString(cmaSearchCondition.getCmaTypes()),
+                Arrays.toString(cmaSearchCondition.getBankNames()));
+
+        return searchCountCache.get(key, () -> queryFactory
                 .select(cMA.count())
                 .from(cMA)
                 .leftJoin(bank).on(cMA.bankName.eq(bank.bankName))
                 .where(
                         cmaTypeEq(cmaSearchCondition.getCmaTypes()),
                         cmaBankNameEq(cmaSearchCondition.getBankNames())
-                );
+                )
+                .fetchOne());
+    }
 
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+    private Predicate[] financialProductSearchEq(FinancialProductSearchCondition financialProductSearchCondition, FinancialProductType financialProductType, InterestRateSortType sortType) {
+        return new Predicate[]{
+                financialProductBestOption.sortType.eq(sortType),
+                financialProductBestOption.financialProductType.eq(financialProductType),
+                typeEq(financialProductSearchCondition.getTypes()),
+                bankGroupNoEq(financialProductSearchCondition.getBankGroupNos()),
+                bankNameEq(financialProductSearchCondition.getBankNames()),
+                bestOptionTermEq(financialProductSearchCondition.getTerms()),
+                maxLimitGoe(financialProductSearchCondition.getMaxLimit())
+        };
     }
 
-    @Override
-    public List<SearchBankRes> findBanks(String[] bankGroupNos) {
-        return queryFactory
-                .select(new QSearchBankRes(
-                        bank.bankName,
-                        bank.bankLogoUrl
-                ))
-                .from(bank)
-                .where(bankGroupNoEq(bankGroupNos))
-                .orderBy(bank.bankName.asc())
-                .fetch();
+    private OrderSpecifier<?>[] bestOptionOrderBy(InterestRateSortType sortType) {
+        if (sortType == InterestRateSortType.DEFAULT) {
+            return new OrderSpecifier[]{
+                    financialProductBestOption.interestRateValue.desc(),
+                    financialProductBestOption.maximumPreferredInterestRateValue.desc()
+            };
+        }
+        return new OrderSpecifier[]{
+                financialProductBestOption.maximumPreferredInterestRateValue.desc(),
+                financialProductBestOption.interestRateValue.desc()
+        };
     }
 
     private BooleanExpression bankGroupNoEq(String[] bankTypes) {
@@ -325,54 +239,43 @@ public class FinancialProductQueryDslRepositoryImpl implements FinancialProductQ
         return bank.topFinancialGroupNo.in(bankTypes);
     }
 
-    private BooleanExpression termEq(Integer[] terms) {
+    // 빈 배열은 조건 없음으로 본다. (카탈로그 검색과 같은 규칙)
+    private BooleanExpression bestOptionTermEq(Integer[] terms) {
         if (terms == null || terms.length == 0) return null;
-        return financialProductOption.savingsTerm.in(terms);
+        return financialProductBestOption.savingsTerm.in(terms);
     }
 
+    // 분류된 유형은 인덱스를 타는 태그 조회로, 분류되지 않은 유형만 문자열 검색으로 처리
     private BooleanExpression typeEq(String[] types) {
         if (types == null || types.length == 0) {
             return null;
         }
 
+        List<EligibilityType> eligibilityTypes = new ArrayList<>();
         BooleanExpression expression = null;
 
         for (String type : types) {
-            if (type.equals("누구나 가입")) {
-                String[] keywords = {
-                        "제한없음", "실명의 개인", "개인(개인사업자 포함)", "만 14세 이상 개인고객",
-                        "만 17세 이상 실명의 개인 및 개인사업자", "실명의 개인 또는 개인사업자 (1인 다계좌 가입 가능함)",
-                        "거래대상자는 제한을 두지 않으나, 국가 및 지방자치단체는 거래 불가능", "만 19세 이상의 개인",
-                        "인터넷 및 모바일뱅킹 사용자", "누구나 가입 가능", "모든 고객",
-                        "만 19세 이상 실명의 개인고객 (1인 1계좌 한정)", "실명의 개인, 법인", "인터넷뱅킹, 스마트폰뱅킹 전용"
-                };
-
-                for (String keyword : keywords) {
-                    if (expression == null) {
-                        expression = financialProduct.joinMember.contains(keyword);
-                    } else {
-                        expression = expression.or(financialProduct.joinMember.contains(keyword));
-                    }
-                }
-            } else {
-                if (expression == null) {
-                    expression = financialProduct.joinMember.contains(type)
-                            .or(financialProduct.productName.contains(type))
-                            .or(financialProduct.specialCondition.contains(type))
-                            .or(financialProduct.etcNote.contains(type));
-                } else {
-                    expression = expression.or(financialProduct.joinMember.contains(type))
-                            .or(financialProduct.productName.contains(type))
-                            .or(financialProduct.specialCondition.contains(type))
-                            .or(financialProduct.etcNote.contains(type));
-                }
+            Optional<EligibilityType> eligibilityType = EligibilityType.fromLabel(type);
+            if (eligibilityType.isPresent()) {
+                eligibilityTypes.add(eligibilityType.get());
+                continue;
             }
+
+            BooleanExpression textMatch = financialProduct.joinMember.contains(type)
+                    .or(financialProduct.productName.contains(type))
+                    .or(financialProduct.specialCondition.contains(type))
+                    .or(financialProduct.etcNote.contains(type));
+            expression = expression == null ? textMatch : expression.or(textMatch);
+        }
+
+        if (!eligibilityTypes.isEmpty()) {
+            BooleanExpression tagMatch = financialProduct.eligibilityTypes.any().in(eligibilityTypes);
+            expression = expression == null ? tagMatch : expression.or(tagMatch);
         }
 
         return expression;
     }
 
-
     private BooleanExpression bankNameEq(String[] bankNames) {
         if (bankNames == null || bankNames.length == 0) return null;
         BooleanExpression expression = bank.bankName.eq(bankNames[0]);
@@ -2,9 +2,12 @@ package com.finfellows.domain.product.domain.repository;
 
 import com.finfellows.domain.product.domain.FinancialProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface FinancialProductRepository extends JpaRepository<FinancialProduct, Long>, FinancialProductQueryDslRepository {
 
+    @Query("select distinct fp from FinancialProduct fp left join fetch fp.eligibilityTypes")
+    List<FinancialProduct> findAllWithEligibilityTypes();
 }
\ No newline at end of file
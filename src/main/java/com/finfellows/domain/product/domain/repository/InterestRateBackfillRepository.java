@@ -0,0 +1,64 @@
+package com.finfellows.domain.product.domain.repository;
+
+import com.finfellows.domain.product.domain.InterestRates;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.finfellows.domain.product.domain.QCMA.*;
+import static com.finfellows.domain.product.domain.QFinancialProduct.*;
+import static com.finfellows.domain.product.domain.QFinancialProductOption.*;
+
+// 외부에서 적재되어 숫자 금리 컬럼이 비어 있거나, SQL 로 금리 문자열만 바뀌어 숫자 값과 어긋난 행을 맞춘다.
+// 서로 다른 금리 문자열 값은 많지 않으므로 값 단위로 일괄 업데이트하고, 이미 맞는 행은 건드리지 않는다.
+@RequiredArgsConstructor
+@Repository
+public class InterestRateBackfillRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public long backfillAll() {
+        return backfill(financialProductOption, financialProductOption.interestRate, financialProductOption.interestRateValue)
+                + backfill(financialProductOption, financialProductOption.maximumPreferredInterestRate, financialProductOption.maximumPreferredInterestRateValue)
+                + backfill(financialProduct, financialProduct.maturityInterestRate, financialProduct.maturityInterestRateValue)
+                + backfill(cMA, cMA.maturityInterestRate, cMA.maturityInterestRateValue);
+    }
+
+    private long backfill(EntityPath<?> entity, StringPath rate, NumberPath<BigDecimal> rateValue) {
+        List<String> rates = queryFactory
+                .select(rate)
+                .distinct()
+                .from(entity)
+                .where(rate.isNotNull())
+                .fetch();
+
+        // 문자열이 없어졌거나 숫자로 읽을 수 없게 바뀐 행은 숫자 값도 비운다.
+        long updated = queryFactory
+                .update(entity)
+                .setNull(rateValue)
+                .where(rate.isNull(), rateValue.isNotNull())
+                .execute();
+        for (String value : rates) {
+            BigDecimal parsed = InterestRates.parse(value);
+            updated += parsed == null
+                    ? queryFactory
+                    .update(entity)
+                    .setNull(rateValue)
+                    .where(rate.eq(value), rateValue.isNotNull())
+                    .execute()
+                    : queryFactory
+                    .update(entity)
+                    .set(rateValue, parsed)
+                    .where(rate.eq(value), rateValue.isNull().or(rateValue.ne(parsed)))
+                    .execute();
+        }
+        return updated;
+    }
+
+}
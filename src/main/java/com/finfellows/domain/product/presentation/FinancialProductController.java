@@ -1,12 +1,14 @@
 package com.finfellows.domain.product.presentation;
 
 import com.finfellows.domain.product.application.FinancialProductServiceImpl;
+import com.finfellows.domain.product.application.FinancialProductSyncService;
 import com.finfellows.domain.product.dto.condition.CmaSearchCondition;
 import com.finfellows.domain.product.dto.condition.FinancialProductSearchCondition;
 import com.finfellows.domain.product.dto.request.BankUploadReq;
 import com.finfellows.domain.product.dto.response.*;
 import com.finfellows.global.config.security.token.CurrentUser;
 import com.finfellows.global.config.security.token.UserPrincipal;
+import com.finfellows.global.payload.CursorSlice;
 import com.finfellows.global.payload.ErrorResponse;
 import com.finfellows.global.payload.ResponseCustom;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,8 +20,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import retrofit2.http.Multipart;
@@ -34,6 +36,7 @@ import java.util.List;
 public class FinancialProductController {
 
     private final FinancialProductServiceImpl financialProductServiceImpl;
+    private final FinancialProductSyncService financialProductSyncService;
 
     @Operation(summary = "은행 리스트 조회", description = "은행 리스트를 조건에 따라 조회합니다.")
     @ApiResponses(value = {
@@ -53,12 +56,13 @@ public class FinancialProductController {
             @ApiResponse(responseCode = "400", description = "예금 정보 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
     })
     @GetMapping("/deposit")
-    public ResponseCustom<Page<SearchFinancialProductRes>> findDepositProducts(
+    public ResponseCustom<Slice<SearchFinancialProductRes>> findDepositProducts(
             @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @ModelAttribute FinancialProductSearchCondition financialProductSearchCondition,
-            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable
+            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable,
+            @Parameter(description = "true 이면 전체 개수 없이 다음 페이지 존재 여부(hasNext)만 반환합니다.") @RequestParam(name = "slice", defaultValue = "false") boolean slice
     ) {
-        return ResponseCustom.OK(financialProductServiceImpl.findDepositProducts(userPrincipal, financialProductSearchCondition, pageable));
+        return ResponseCustom.OK(financialProductServiceImpl.findDepositProducts(userPrincipal, financialProductSearchCondition, pageable, slice));
     }
 
     @Operation(summary = "적금 정보 조회", description = "적금 정보를 조건에 따라 조회합니다.")
@@ -67,12 +71,43 @@ public class FinancialProductController {
             @ApiResponse(responseCode = "400", description = "적금 정보 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
     })
     @GetMapping("/saving")
-    public ResponseCustom<Page<SearchFinancialProductRes>> findSavingProducts(
+    public ResponseCustom<Slice<SearchFinancialProductRes>> findSavingProducts(
             @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @ModelAttribute FinancialProductSearchCondition financialProductSearchCondition,
-            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable
+            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable,
+            @Parameter(description = "true 이면 전체 개수 없이 다음 페이지 존재 여부(hasNext)만 반환합니다.") @RequestParam(name = "slice", defaultValue = "false") boolean slice
     ) {
-        return ResponseCustom.OK(financialProductServiceImpl.findSavingProducts(userPrincipal, financialProductSearchCondition, pageable));
+        return ResponseCustom.OK(financialProductServiceImpl.findSavingProducts(userPrincipal, financialProductSearchCondition, pageable, slice));
+    }
+
+    @Operation(summary = "예금 정보 커서 조회", description = "예금 정보를 조건에 따라 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "예금 정보 커서 조회 성공", content = {@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SearchFinancialProductRes.class)))}),
+            @ApiResponse(responseCode = "400", description = "예금 정보 커서 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/deposit/cursor")
+    public ResponseCustom<CursorSlice<SearchFinancialProductRes>> findDepositProductsByCursor(
+            @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @ModelAttribute FinancialProductSearchCondition financialProductSearchCondition,
+            @Parameter(description = "이전 응답의 nextCursor 를 입력해주세요. 첫 페이지는 비워둡니다.") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "조회 할 개수를 입력해주세요 (최대 100)") @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseCustom.OK(financialProductServiceImpl.findDepositProductsByCursor(userPrincipal, financialProductSearchCondition, cursor, size));
+    }
+
+    @Operation(summary = "적금 정보 커서 조회", description = "적금 정보를 조건에 따라 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "적금 정보 커서 조회 성공", content = {@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SearchFinancialProductRes.class)))}),
+            @ApiResponse(responseCode = "400", description = "적금 정보 커서 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/saving/cursor")
+    public ResponseCustom<CursorSlice<SearchFinancialProductRes>> findSavingProductsByCursor(
+            @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @ModelAttribute FinancialProductSearchCondition financialProductSearchCondition,
+            @Parameter(description = "이전 응답의 nextCursor 를 입력해주세요. 첫 페이지는 비워둡니다.") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "조회 할 개수를 입력해주세요 (최대 100)") @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseCustom.OK(financialProductServiceImpl.findSavingProductsByCursor(userPrincipal, financialProductSearchCondition, cursor, size));
     }
 
     @Operation(summary = "예금 상세 정보 조회", description = "예금 상세 정보를 조회합니다.")
@@ -107,12 +142,28 @@ public class FinancialProductController {
             @ApiResponse(responseCode = "400", description = "CMA 정보 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
     })
     @GetMapping("/cma")
-    public ResponseCustom<Page<SearchCmaRes>> findCmaProducts(
+    public ResponseCustom<Slice<SearchCmaRes>> findCmaProducts(
+            @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @ModelAttribute CmaSearchCondition cmaSearchCondition,
+            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable,
+            @Parameter(description = "true 이면 전체 개수 없이 다음 페이지 존재 여부(hasNext)만 반환합니다.") @RequestParam(name = "slice", defaultValue = "false") boolean slice
+    ) {
+        return ResponseCustom.OK(financialProductServiceImpl.findCmaProducts(userPrincipal, cmaSearchCondition, pageable, slice));
+    }
+
+    @Operation(summary = "CMA 정보 커서 조회", description = "CMA 정보를 조건에 따라 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "CMA 정보 커서 조회 성공", content = {@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SearchCmaRes.class)))}),
+            @ApiResponse(responseCode = "400", description = "CMA 정보 커서 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/cma/cursor")
+    public ResponseCustom<CursorSlice<SearchCmaRes>> findCmaProductsByCursor(
             @Parameter(description = "AccessToken 을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @ModelAttribute CmaSearchCondition cmaSearchCondition,
-            @Parameter(description = "조회 할 페이지와 페이지 크기를 입력해주세요") Pageable pageable
+            @Parameter(description = "이전 응답의 nextCursor 를 입력해주세요. 첫 페이지는 비워둡니다.") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "조회 할 개수를 입력해주세요 (최대 100)") @RequestParam(name = "size", defaultValue = "20") int size
     ) {
-        return ResponseCustom.OK(financialProductServiceImpl.findCmaProducts(userPrincipal, cmaSearchCondition, pageable));
+        return ResponseCustom.OK(financialProductServiceImpl.findCmaProductsByCursor(userPrincipal, cmaSearchCondition, cursor, size));
     }
 
     @Operation(summary = "CMA 상세 정보 조회", description = "CMA 상세 정보를 조회합니다.")
@@ -154,4 +205,15 @@ public class FinancialProductController {
         return ResponseCustom.OK(financialProductServiceImpl.bankUpload(bankUploadReq, bankLogoImg));
     }
 
-}
\ No newline at end of file
+    @Operation(summary = "금융 상품 조회 데이터 동기화", description = "관리자용. 공시 데이터 적재 후 상품별 대표 옵션 등 조회용 데이터를 다시 계산합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "금융 상품 조회 데이터 동기화 성공"),
+            @ApiResponse(responseCode = "400", description = "금융 상품 조회 데이터 동기화 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @PostMapping("/sync")
+    public ResponseCustom<Void> syncFinancialProducts() {
+        financialProductSyncService.syncAll();
+        return ResponseCustom.OK();
+    }
+
+}
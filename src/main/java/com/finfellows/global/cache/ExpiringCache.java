@@ -0,0 +1,134 @@
+package com.finfellows.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// 크기와 유효 시간이 제한된 LRU 캐시. 값 계산(DB 조회 등)은 락 밖에서 수행한다.
+public class ExpiringCache<K, V> {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public ExpiringCache(int maximumSize, Duration timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > ExpiringCache.this.maximumSize;
+            }
+        };
+    }
+
+    public V get(K key) {
+        lock.lock();
+        try {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null || entry.isExpired(System.nanoTime())) {
+                if (entry != null) entries.remove(key);
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        V value = get(key);
+        if (value != null) return value;
+
+        value = loader.get();
+        if (value != null) put(key, value);
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, timeToLiveNanos);
+    }
+
+    // 토큰 만료 시각처럼 값마다 더 짧은 유효 시간이 필요한 경우
+    public void put(K key, V value, Duration timeToLive) {
+        put(key, value, Math.min(timeToLiveNanos, timeToLive.toNanos()));
+    }
+
+    private void put(K key, V value, long ttlNanos) {
+        if (ttlNanos <= 0) return;
+
+        lock.lock();
+        try {
+            entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        lock.lock();
+        try {
+            Iterator<K> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (predicate.test(keys.next())) keys.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+    }
+
+}
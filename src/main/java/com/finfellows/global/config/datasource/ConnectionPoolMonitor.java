@@ -0,0 +1,76 @@
+package com.finfellows.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+// 커넥션 풀 상태와, 외부 호출 동안 DB 커넥션을 쥐고 있는지 확인한다.
+// 외부 호출 직전에 beforeExternalCall 을 부르면 현재 스레드의 영속성 컨텍스트가 물리 커넥션을 잡고 있는 경우를 센다.
+@Slf4j
+@Component
+public class ConnectionPoolMonitor {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean openInView;
+
+    private final LongAdder externalCalls = new LongAdder();
+    private final LongAdder externalCallsHoldingConnection = new LongAdder();
+
+    public ConnectionPoolMonitor(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                 @Value("${spring.jpa.open-in-view:false}") boolean openInView) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.openInView = openInView;
+    }
+
+    public void beforeExternalCall(String target) {
+        externalCalls.increment();
+        if (holdsConnection()) {
+            externalCallsHoldingConnection.increment();
+            log.warn("DB 커넥션을 쥔 채로 외부 호출: {}", target);
+        }
+    }
+
+    public ConnectionPoolStatsResponse getStats() {
+        HikariDataSource hikari = hikari();
+        HikariPoolMXBean pool = hikari == null ? null : hikari.getHikariPoolMXBean();
+        return ConnectionPoolStatsResponse.builder()
+                .openInView(openInView)
+                .activeConnections(pool == null ? 0 : pool.getActiveConnections())
+                .idleConnections(pool == null ? 0 : pool.getIdleConnections())
+                .totalConnections(pool == null ? 0 : pool.getTotalConnections())
+                .maximumPoolSize(hikari == null ? 0 : hikari.getMaximumPoolSize())
+                .threadsAwaitingConnection(pool == null ? 0 : pool.getThreadsAwaitingConnection())
+                .externalCalls(externalCalls.sum())
+                .externalCallsHoldingConnection(externalCallsHoldingConnection.sum())
+                .build();
+    }
+
+    // 트랜잭션이나 OSIV 로 묶인 EntityManager 가 있어도, 실제 커넥션은 첫 쿼리에서야 잡으므로 물리 연결 여부로 판단한다.
+    private boolean holdsConnection() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder == null || !holder.getEntityManager().isOpen()) return false;
+        return holder.getEntityManager().unwrap(SharedSessionContractImplementor.class)
+                .getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected();
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+}
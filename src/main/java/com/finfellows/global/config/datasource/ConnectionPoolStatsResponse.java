@@ -0,0 +1,22 @@
+package com.finfellows.global.config.datasource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConnectionPoolStatsResponse {
+    private boolean openInView;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int maximumPoolSize;
+    private int threadsAwaitingConnection;
+    // 외부 호출(GPT, S3) 직전 검사 횟수와, 그 시점에 요청 스레드가 DB 커넥션을 쥐고 있던 횟수
+    private long externalCalls;
+    private long externalCallsHoldingConnection;
+}
@@ -5,7 +5,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @ConfigurationProperties(prefix = "app")
@@ -18,6 +20,9 @@ public class OAuth2Config {
         private String tokenSecret;
         private long accessTokenExpirationMsec;
         private long refreshTokenExpirationMsec;
+        // 키 교체 시 새 secret 에 새 kid 를 주고, 이전 secret 은 access token 만료 기간 동안 retired 로 남겨 둔다.
+        private String tokenKeyId = "default";
+        private Map<String, String> retiredTokenSecrets = new HashMap<>();
     }
 
     public static final class OAuth2 {
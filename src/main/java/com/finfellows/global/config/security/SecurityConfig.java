@@ -1,6 +1,7 @@
 package com.finfellows.global.config.security;
 
 import com.finfellows.domain.auth.application.CustomDefaultOAuth2UserService;
+import com.finfellows.domain.user.domain.Role;
 import com.finfellows.global.config.security.handler.CustomSimpleUrlAuthenticationSuccessHandler;
 import com.finfellows.global.config.security.token.CustomAuthenticationEntryPoint;
 import com.finfellows.global.config.security.token.CustomOncePerRequestFilter;
@@ -60,6 +61,12 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(new CustomAuthenticationEntryPoint()))
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/api/*/admin/**")
+                        .hasAuthority(Role.ADMIN.name())
+                        // 전체 재계산이므로 아래 /financial-products/** 공개 규칙보다 먼저 막는다.
+                        .requestMatchers(HttpMethod.POST, "/financial-products/sync")
+                        .hasAuthority(Role.ADMIN.name())
+
                         .requestMatchers("/", "/error", "/favicon.ico", "/**/*.png", "/**/*.gif", "/**/*.svg", "/**/*.jpg", "/**/*.html", "/**/*.css", "/**/*.js")
                         .permitAll()
                         .requestMatchers("/swagger", "/swagger-ui.html", "/swagger-ui/**", "/api-docs", "/api-docs/**", "/v3/api-docs/**")
@@ -75,7 +82,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/chat-gpt")
                         .permitAll()
 
-                        .requestMatchers("/api/chatbot")
+                        .requestMatchers("/api/chatbot", "/api/chatbot/stream", "/api/chatbot/cursor")
                         .permitAll()
 
                         .anyRequest()
@@ -1,6 +1,7 @@
 package com.finfellows.global.config.security.token;
 
 import com.finfellows.domain.auth.application.CustomTokenProviderService;
+import com.finfellows.domain.auth.application.JwtCodec;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,10 +26,14 @@ public class CustomOncePerRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String jwt = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && customTokenProviderService.validateToken(jwt)) {
-            UsernamePasswordAuthenticationToken authentication = customTokenProviderService.getAuthenticationById(jwt);
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 토큰은 한 번만 파싱하고, 사용자는 캐시에서 가져온다.
+        JwtCodec.DecodedToken token = StringUtils.hasText(jwt) ? customTokenProviderService.parseToken(jwt) : null;
+        if (token != null) {
+            UsernamePasswordAuthenticationToken authentication = customTokenProviderService.getAuthentication(token);
+            if (authentication != null) {
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -37,7 +42,6 @@ public class CustomOncePerRequestFilter extends OncePerRequestFilter {
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer")) {
-            log.info("bearerToken = {}", bearerToken.substring(7, bearerToken.length()));
             return bearerToken.substring(7, bearerToken.length());
         }
         return null;
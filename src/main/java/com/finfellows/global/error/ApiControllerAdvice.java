@@ -3,6 +3,7 @@ package com.finfellows.global.error;
 import com.finfellows.global.payload.ApiResponse;
 import com.finfellows.global.payload.ErrorCode;
 import com.finfellows.global.payload.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -77,6 +78,24 @@ public class ApiControllerAdvice {
         return new ResponseEntity<>(apiResponse, HttpStatus.resolve(errorCode.getStatus()));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<?> handleTooManyRequestsException(TooManyRequestsException e) {
+
+        ErrorCode errorCode = e.getErrorCode();
+
+        ErrorResponse response = ErrorResponse
+                .builder()
+                .status(errorCode.getStatus())
+                .code(errorCode.getCode())
+                .message(e.getMessage())
+                .build();
+
+        ApiResponse apiResponse = ApiResponse.builder().check(false).information(response).build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(apiResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     protected ResponseEntity<?> handleDefaultException(RuntimeException e) {
 
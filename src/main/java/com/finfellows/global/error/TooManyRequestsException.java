@@ -0,0 +1,16 @@
+package com.finfellows.global.error;
+
+import com.finfellows.global.payload.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends DefaultException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
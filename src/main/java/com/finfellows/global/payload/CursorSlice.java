@@ -0,0 +1,31 @@
+package com.finfellows.global.payload;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+    }
+
+    // size + 1건을 조회한 결과에서 마지막 한 건으로 다음 페이지 존재 여부를 판단한다.
+    public static <T> CursorSlice<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) return new CursorSlice<>(rows, null);
+
+        List<T> content = rows.subList(0, size);
+        return new CursorSlice<>(content, cursorOf.apply(content.get(size - 1)));
+    }
+
+}
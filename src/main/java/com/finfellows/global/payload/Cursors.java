@@ -0,0 +1,78 @@
+package com.finfellows.global.payload;
+
+import com.finfellows.global.error.DefaultException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 기반 조회에서 쓰는 이어보기 토큰. 마지막 행의 정렬 키와 id를 담지만 클라이언트에는 불투명한 문자열로만 노출한다.
+public final class Cursors {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String NULL_KEY = "\u0000";
+
+    private Cursors() {
+    }
+
+    public static int size(int requestedSize) {
+        return Math.max(1, Math.min(requestedSize, MAX_SIZE));
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) builder.append(SEPARATOR);
+            builder.append(keys[i] == null ? NULL_KEY : keyToString(keys[i]));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청(cursor 없음)이면 null을 반환한다.
+    public static String[] decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        String[] keys;
+        try {
+            keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+        if (keys.length != keyCount) throw invalidCursor();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (NULL_KEY.equals(keys[i])) keys[i] = null;
+        }
+        return keys;
+    }
+
+    public static Long toLong(String key) {
+        if (key == null) throw invalidCursor();
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static BigDecimal toDecimal(String key) {
+        if (key == null) return null;
+        try {
+            return new BigDecimal(key);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static String keyToString(Object key) {
+        return key instanceof BigDecimal decimal ? decimal.toPlainString() : key.toString();
+    }
+
+    private static DefaultException invalidCursor() {
+        return new DefaultException(ErrorCode.INVALID_PARAMETER, "유효하지 않은 커서입니다.");
+    }
+
+}
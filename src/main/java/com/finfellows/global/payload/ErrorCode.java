@@ -10,7 +10,8 @@ public enum ErrorCode {
     INVALID_FILE_PATH(400, null, "잘못된 파일 경로 입니다."),
     INVALID_OPTIONAL_ISPRESENT(400, null, "해당 값이 존재하지 않습니다."),
     INVALID_CHECK(400, null, "해당 값이 유효하지 않습니다."),
-    INVALID_AUTHENTICATION(400, null, "잘못된 인증입니다.");
+    INVALID_AUTHENTICATION(400, null, "잘못된 인증입니다."),
+    TOO_MANY_REQUESTS(429, null, "요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final String code;
     private final String message;
@@ -0,0 +1,25 @@
+package com.finfellows.global.payload;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+public final class PageResults {
+
+    private PageResults() {
+    }
+
+    // 다음 페이지 존재 여부만 필요한 경우 전체 개수 쿼리 대신 한 건을 더 조회한다.
+    public static long fetchSize(Pageable pageable, boolean slice) {
+        return slice ? pageable.getPageSize() + 1L : pageable.getPageSize();
+    }
+
+    public static <T> Slice<T> slice(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.finfellows.domain.chatgpt.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finfellows.domain.chatgpt.config.ChatgptConfig;
+import com.finfellows.domain.chatgpt.domain.ChatGptMessage;
+import com.finfellows.domain.chatgpt.dto.request.ChatgptRequest;
+import com.finfellows.domain.chatgpt.dto.response.ChatgptCompletion;
+import com.finfellows.global.config.datasource.ConnectionPoolMonitor;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// OpenAI 대신 MockWebServer 가 SSE/JSON 으로 응답한다.
+class ChatgptClientTest {
+
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockWebServer server;
+    private ChatgptUpstreamGuard upstreamGuard;
+    private ChatgptClient chatgptClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        upstreamGuard = new ChatgptUpstreamGuard(20, 10, 0.5, Duration.ofSeconds(30), 16, Duration.ZERO, 4, 100,
+                2.0, Duration.ofSeconds(5), Duration.ofSeconds(10));
+        chatgptClient = new ChatgptClient(WebClient.builder(), objectMapper, mock(ConnectionPoolMonitor.class), upstreamGuard,
+                "test-key", server.url("/v1/chat/completions").toString(), 4,
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        upstreamGuard.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void streamsDeltasUntilDone() throws Exception {
+        server.enqueue(sse(delta("안녕"), delta(", 금토리야"), "[DONE]", delta("보내면 안 되는 조각")));
+
+        List<String> deltas = chatgptClient.streamCompletion(request(true)).collectList().block(BLOCK_TIMEOUT);
+
+        assertThat(deltas).containsExactly("안녕", ", 금토리야");
+        RecordedRequest recorded = server.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(recorded.getHeader(ChatgptConfig.AUTHORIZATION)).isEqualTo(ChatgptConfig.BEARER + "test-key");
+        assertThat(recorded.getBody().readUtf8()).contains("\"stream\":true");
+    }
+
+    // 3바이트씩 잘라 보내 SSE 프레임과 한글(UTF-8 3바이트) 경계가 청크 중간에 걸리게 한다.
+    @Test
+    void joinsFramesSplitAcrossChunks() {
+        List<String> parts = List.of("적금은 ", "매달 ", "일정 금액을 ", "넣는 상품이야.");
+        String[] events = new String[parts.size() + 1];
+        for (int i = 0; i < parts.size(); i++) {
+            events[i] = delta(parts.get(i));
+        }
+        events[parts.size()] = "[DONE]";
+        server.enqueue(sse(3, events));
+
+        List<String> deltas = chatgptClient.streamCompletion(request(true)).collectList().block(BLOCK_TIMEOUT);
+
+        assertThat(deltas).containsExactlyElementsOf(parts);
+    }
+
+    // role 만 있는 첫 조각, 종료 조각, 깨진 조각은 건너뛴다.
+    @Test
+    void skipsChunksWithoutContent() {
+        server.enqueue(sse(
+                "{\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\"}}]}",
+                delta("예금"),
+                "not json",
+                "{\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}]}",
+                "[DONE]"));
+
+        List<String> deltas = chatgptClient.streamCompletion(request(true)).collectList().block(BLOCK_TIMEOUT);
+
+        assertThat(deltas).containsExactly("예금");
+    }
+
+    // [DONE] 없이 연결이 끝나도 받은 조각까지로 정상 종료한다.
+    @Test
+    void completesWhenStreamEndsWithoutDone() {
+        server.enqueue(sse(delta("금리"), delta("는 이자율이야")));
+
+        List<String> deltas = chatgptClient.streamCompletion(request(true)).collectList().block(BLOCK_TIMEOUT);
+
+        assertThat(deltas).containsExactly("금리", "는 이자율이야");
+    }
+
+    @Test
+    void readsContentAndUsageFromCompletion() {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"id\":\"chatcmpl-1\",\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":8,\"total_tokens\":20},"
+                        + "\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"CMA 는 수시입출금 계좌야.\"},"
+                        + "\"finish_reason\":\"stop\"},{\"index\":1,\"message\":{\"content\":\"무시\"}}],\"model\":\"gpt\"}"));
+
+        ChatgptCompletion completion = chatgptClient.complete(request(false)).block(BLOCK_TIMEOUT);
+
+        assertThat(completion.getContent()).isEqualTo("CMA 는 수시입출금 계좌야.");
+        assertThat(completion.getTotalTokens()).isEqualTo(20);
+        assertThat(completion.getCompletionTokens()).isEqualTo(8);
+    }
+
+    private static ChatgptRequest request(boolean stream) {
+        return ChatgptRequest.builder()
+                .model("gpt-test")
+                .maxTokens(100)
+                .temperature(0.5)
+                .stream(stream)
+                .messages(List.of(ChatGptMessage.builder().role(ChatgptConfig.ROLE).content("적금이 뭐야?").build()))
+                .build();
+    }
+
+    private String delta(String content) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("choices", List.of(Map.of("index", 0, "delta", Map.of("content", content)))));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockResponse sse(String... events) {
+        return sse(64, events);
+    }
+
+    private static MockResponse sse(int maxChunkSize, String... events) {
+        StringBuilder body = new StringBuilder();
+        for (String event : events) {
+            body.append("data: ").append(event).append("\n\n");
+        }
+        return new MockResponse()
+                .setHeader("Content-Type", "text/event-stream;charset=UTF-8")
+                .setChunkedBody(body.toString(), maxChunkSize);
+    }
+
+}
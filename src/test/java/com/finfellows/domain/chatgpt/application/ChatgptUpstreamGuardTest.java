@@ -0,0 +1,164 @@
+package com.finfellows.domain.chatgpt.application;
+
+import com.finfellows.domain.chatgpt.exception.ChatgptUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 상류는 Mono/Flux 스텁으로 대신한다. 응답을 붙잡아 두려면 Sinks 로 만든 호출을 쓴다.
+class ChatgptUpstreamGuardTest {
+
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    private ChatgptUpstreamGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        if (guard != null) guard.shutdown();
+    }
+
+    @Test
+    void opensAfterFailureRateThresholdAndSkipsUpstream() {
+        guard = guard(Duration.ofHours(1), 4, Duration.ZERO, Duration.ofSeconds(5));
+        failTimes(4);
+
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<String> call = guard.protect(Mono.fromCallable(() -> {
+            upstreamCalls.incrementAndGet();
+            return "ok";
+        }));
+
+        assertThatThrownBy(() -> call.block(BLOCK_TIMEOUT))
+                .isInstanceOf(ChatgptUnavailableException.class)
+                .hasMessage("GPT 차단기 열림");
+        assertThat(upstreamCalls).hasValue(0);
+        assertThat(guard.getStats().getCircuitState()).isEqualTo("OPEN");
+    }
+
+    // 400 같은 요청 오류는 상류 장애가 아니다.
+    @Test
+    void ignoresClientErrors() {
+        guard = guard(Duration.ofHours(1), 4, Duration.ZERO, Duration.ofSeconds(5));
+        for (int i = 0; i < 4; i++) {
+            Mono<String> call = guard.protect(Mono.error(WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, new byte[0], null)));
+            assertThatThrownBy(() -> call.block(BLOCK_TIMEOUT)).isInstanceOf(WebClientResponseException.class);
+        }
+
+        assertThat(guard.protect(Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+        assertThat(guard.getStats().getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void letsOneProbeThroughAndClosesWhenItSucceeds() throws Exception {
+        guard = guard(Duration.ofMillis(50), 4, Duration.ZERO, Duration.ofSeconds(5));
+        failTimes(4);
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        Sinks.One<String> probe = Sinks.one();
+        CompletableFuture<String> probeCall = guard.protect(probe.asMono()).toFuture();
+
+        assertThat(guard.getStats().getCircuitState()).isEqualTo("HALF_OPEN");
+        assertThatThrownBy(() -> guard.protect(Mono.just("other")).block(BLOCK_TIMEOUT))
+                .isInstanceOf(ChatgptUnavailableException.class)
+                .hasMessage("GPT 차단기 시험 호출 중");
+
+        probe.tryEmitValue("ok");
+        assertThat(probeCall.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(guard.getStats().getCircuitState()).isEqualTo("CLOSED");
+        assertThat(guard.protect(Mono.just("next")).block(BLOCK_TIMEOUT)).isEqualTo("next");
+    }
+
+    @Test
+    void reopensWhenProbeFails() throws Exception {
+        guard = guard(Duration.ofMillis(50), 4, Duration.ZERO, Duration.ofSeconds(5));
+        failTimes(4);
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        failTimes(1);
+
+        assertThat(guard.getStats().getCircuitState()).isEqualTo("OPEN");
+        assertThatThrownBy(() -> guard.protect(Mono.just("ok")).block(BLOCK_TIMEOUT))
+                .isInstanceOf(ChatgptUnavailableException.class)
+                .hasMessage("GPT 차단기 열림");
+    }
+
+    @Test
+    void rejectsCallsBeyondBulkheadLimit() {
+        guard = guard(Duration.ofHours(1), 1, Duration.ZERO, Duration.ofSeconds(5));
+        Sinks.One<String> inFlight = Sinks.one();
+        CompletableFuture<String> first = guard.protect(inFlight.asMono()).toFuture();
+
+        assertThatThrownBy(() -> guard.protect(Mono.just("second")).block(BLOCK_TIMEOUT))
+                .isInstanceOf(ChatgptUnavailableException.class)
+                .hasMessage("GPT 동시 호출 한도 초과");
+        assertThat(guard.getStats().getInFlightCalls()).isEqualTo(1);
+
+        inFlight.tryEmitValue("first");
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(guard.protect(Mono.just("third")).block(BLOCK_TIMEOUT)).isEqualTo("third");
+    }
+
+    // 자리가 max-wait 안에 나면 거절하지 않는다.
+    @Test
+    void waitsForBulkheadPermitUpToMaxWait() {
+        guard = guard(Duration.ofHours(1), 1, Duration.ofSeconds(2), Duration.ofSeconds(5));
+        Sinks.One<String> inFlight = Sinks.one();
+        guard.protect(inFlight.asMono()).subscribe();
+        Mono.delay(Duration.ofMillis(100)).subscribe(tick -> inFlight.tryEmitValue("first"));
+
+        assertThat(guard.protect(Mono.just("second")).block(BLOCK_TIMEOUT)).isEqualTo("second");
+    }
+
+    // 표본이 적을 때는 최대 제한 시간(여기서는 100ms)을 쓴다.
+    @Test
+    void timesOutSlowCompletion() {
+        guard = guard(Duration.ofHours(1), 4, Duration.ZERO, Duration.ofMillis(100));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> guard.protect(Mono.never()).block(BLOCK_TIMEOUT))
+                .isInstanceOf(ChatgptUnavailableException.class)
+                .hasMessage("GPT 응답 시간 초과");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(guard.getStats().getInFlightCalls()).isZero();
+        assertThat(guard.getStats().getFailureRate()).isEqualTo(1.0);
+    }
+
+    // 첫 조각이 오면 이후 간격에는 제한 시간을 걸지 않는다.
+    @Test
+    void timesOutOnlyBeforeFirstStreamItem() {
+        guard = guard(Duration.ofHours(1), 4, Duration.ZERO, Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> guard.protectStream(Flux.never()).collectList().block(BLOCK_TIMEOUT))
+                .isInstanceOf(ChatgptUnavailableException.class)
+                .hasMessage("GPT 첫 응답 시간 초과");
+
+        Flux<Long> slowAfterFirst = Flux.concat(Mono.just(0L), Mono.delay(Duration.ofMillis(300)));
+        assertThat(guard.protectStream(slowAfterFirst).collectList().block(BLOCK_TIMEOUT)).hasSize(2);
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            Mono<String> call = guard.protect(Mono.error(new IllegalStateException("upstream down")));
+            assertThatThrownBy(() -> call.block(BLOCK_TIMEOUT)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    // 창 4건, 최소 4건, 실패율 50% 에서 열린다.
+    private static ChatgptUpstreamGuard guard(Duration openDuration, int maxConcurrentCalls, Duration maxWait, Duration maxTimeout) {
+        return new ChatgptUpstreamGuard(4, 4, 0.5, openDuration, maxConcurrentCalls, maxWait, 2, 100,
+                2.0, Duration.ofMillis(10), maxTimeout);
+    }
+
+}
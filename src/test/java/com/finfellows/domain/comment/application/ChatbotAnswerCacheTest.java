@@ -0,0 +1,34 @@
+package com.finfellows.domain.comment.application;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatbotAnswerCacheTest {
+
+    // 한 음절 조사를 떼면 명사 끝이 잘려 다른 질문이 같은 키가 된다.
+    @Test
+    void keepsNounsEndingWithParticleSyllables() {
+        assertThat(ChatbotAnswerCache.normalize("한도 알려줘")).isNotEqualTo(ChatbotAnswerCache.normalize("한 알려줘"));
+        assertThat(ChatbotAnswerCache.normalize("주가 알려줘")).isNotEqualTo(ChatbotAnswerCache.normalize("주 알려줘"));
+        assertThat(ChatbotAnswerCache.normalize("효과 설명해줘")).isNotEqualTo(ChatbotAnswerCache.normalize("효 설명해줘"));
+        assertThat(ChatbotAnswerCache.normalize("신용도 올리는 법")).isNotEqualTo(ChatbotAnswerCache.normalize("신용 올리는 법"));
+        assertThat(ChatbotAnswerCache.normalize("한 도")).isNotEqualTo(ChatbotAnswerCache.normalize("한도"));
+    }
+
+    @Test
+    void ignoresSpacingPunctuationCaseAndLongParticles() {
+        assertThat(ChatbotAnswerCache.normalize("적금이란 뭐야?")).isEqualTo(ChatbotAnswerCache.normalize("  적금   뭐야"));
+        assertThat(ChatbotAnswerCache.normalize("은행에서 대출 받는 법!")).isEqualTo(ChatbotAnswerCache.normalize("은행 대출 받는 법"));
+        assertThat(ChatbotAnswerCache.normalize("ISA 계좌")).isEqualTo(ChatbotAnswerCache.normalize("isa, 계좌"));
+    }
+
+    @Test
+    void keySeparatesSettings() {
+        String question = "예금자 보호가 뭐야?";
+
+        assertThat(ChatbotAnswerCache.key(question, ChatbotAnswerCache.fingerprint("gpt-a|0.5")))
+                .isNotEqualTo(ChatbotAnswerCache.key(question, ChatbotAnswerCache.fingerprint("gpt-b|0.5")));
+    }
+
+}
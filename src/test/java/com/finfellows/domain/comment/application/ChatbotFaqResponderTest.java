@@ -0,0 +1,58 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.comment.dto.response.CommentResponse;
+import com.finfellows.domain.educontent.application.EduContentSearchIndex;
+import com.finfellows.domain.educontent.domain.EduContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatbotFaqResponderTest {
+
+    private ChatbotFaqResponder responder;
+
+    @BeforeEach
+    void setUp() {
+        EduContentSearchIndex index = new EduContentSearchIndex();
+        index.rebuild(List.of(
+                eduContent(1L, "적금", "적금은 매달 일정 금액을 넣고 만기에 이자를 받는 상품이다."),
+                eduContent(2L, "예금", "예금은 목돈을 한 번에 맡기고 이자를 받는 상품이다."),
+                eduContent(3L, "신용점수", "신용점수는 대출 상환 이력과 카드 사용으로 정해진다."),
+                eduContent(4L, "통장 고르기", "예금 통장과 적금 통장을 비교한다.")));
+        responder = new ChatbotFaqResponder(index, 0.6, 0.9);
+    }
+
+    @Test
+    void answersConfidentMatchWithContentLink() {
+        Optional<CommentResponse> answer = responder.answer("예금");
+
+        assertThat(answer).isPresent();
+        assertThat(answer.get().getEduContentId()).isEqualTo(2L);
+        assertThat(answer.get().getLink()).isEqualTo("/api/learn/edu/2");
+        assertThat(answer.get().getAnswer()).startsWith("예금은 목돈을");
+    }
+
+    // 질문 단어 대부분이 콘텐츠에 없으면 기준 미달로 GPT 에 넘긴다.
+    @Test
+    void skipsMatchBelowConfidenceCutOff() {
+        assertThat(responder.answer("예금 환율 전망")).isEmpty();
+    }
+
+    // 1, 2위 점수가 비슷하면 어느 콘텐츠인지 확실하지 않다.
+    @Test
+    void skipsAmbiguousMatch() {
+        assertThat(responder.answer("이자")).isEmpty();
+    }
+
+    private static EduContent eduContent(Long id, String title, String content) {
+        EduContent eduContent = EduContent.builder().title(title).content(content).build();
+        ReflectionTestUtils.setField(eduContent, "id", id);
+        return eduContent;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.finfellows.domain.comment.application;
+
+import com.finfellows.domain.comment.domain.repository.CommentRepository;
+import com.finfellows.domain.comment.dto.response.CommentListResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatbotTopicClassifierTest {
+
+    private static final List<String> OFF_TOPIC = List.of(
+            "오늘 날씨 어때", "내일 날씨 알려줘", "주말 날씨는 어때", "서울 날씨 어때", "비 오는 날씨 싫어",
+            "재미있는 영화 추천해줘", "요즘 볼만한 영화 알려줘", "주말에 볼 영화 추천해줘", "공포 영화 추천해줘", "영화 순위 알려줘");
+
+    private static final List<String> ON_TOPIC = List.of(
+            "적금 이자 계산 방법 알려줘", "예금 금리 비교해줘", "주식 처음 시작하는 법", "대출 갚는 순서 알려줘", "신용 점수 올리는 법",
+            "사회초년생 통장 쪼개기", "비상금 얼마나 모아야 해", "월세 보증금 모으는 법", "종잣돈 모으는 방법", "청약 통장 조건 알려줘");
+
+    @Test
+    void separatesLabeledQuestions() {
+        ChatbotTopicClassifier classifier = trainedClassifier(5);
+
+        assertThat(classifier.isOffTopic("다음 주 날씨 어때")).isTrue();
+        assertThat(classifier.isOffTopic("가족이랑 볼 영화 추천해줘")).isTrue();
+        assertThat(classifier.isOffTopic("사회초년생 비상금 모으는 법")).isFalse();
+    }
+
+    // 분류기 점수와 관계없이 금융 키워드가 들어간 질문은 거절하지 않는다.
+    @Test
+    void neverRefusesQuestionsWithFinanceKeywords() {
+        ChatbotTopicClassifier classifier = trainedClassifier(5);
+
+        assertThat(classifier.isOffTopic("날씨가 주식에 영향을 줘?")).isFalse();
+        assertThat(classifier.isOffTopic("영화 보러 갈 때 카드 할인 알려줘")).isFalse();
+        assertThat(classifier.isOffTopic("ETF 날씨 어때")).isFalse();
+    }
+
+    @Test
+    void refusesNothingWithoutEnoughExamples() {
+        ChatbotTopicClassifier classifier = trainedClassifier(OFF_TOPIC.size() + 1);
+
+        assertThat(classifier.isOffTopic("오늘 날씨 어때")).isFalse();
+    }
+
+    @Test
+    void featuresIgnoreCaseAndPunctuation() {
+        int[] features = ChatbotTopicClassifier.features("ETF 알려줘");
+
+        assertThat(ChatbotTopicClassifier.features("etf, 알려줘!")).containsExactly(features);
+        assertThat(features).isSorted().doesNotHaveDuplicates();
+        assertThat(ChatbotTopicClassifier.features("?!")).isEmpty();
+    }
+
+    private static ChatbotTopicClassifier trainedClassifier(int minExamplesPerClass) {
+        List<CommentListResponse> comments = new ArrayList<>();
+        OFF_TOPIC.forEach(question -> comments.add(comment(question, ChatbotTopicClassifier.REFUSAL)));
+        ON_TOPIC.forEach(question -> comments.add(comment(question, "금토리가 알려줄게.")));
+
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        when(commentRepository.findRecentQuestionAnswers(any(Pageable.class))).thenReturn(comments);
+
+        ChatbotTopicClassifier classifier = new ChatbotTopicClassifier(commentRepository, 0.5, 100, minExamplesPerClass);
+        classifier.train();
+        return classifier;
+    }
+
+    private static CommentListResponse comment(String question, String answer) {
+        return CommentListResponse.builder().question(question).answer(answer).build();
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.finfellows.domain.educontent.application;
+
+import com.finfellows.domain.educontent.domain.EduContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EduContentSearchIndexTest {
+
+    private final EduContentSearchIndex index = new EduContentSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(corpus());
+    }
+
+    @Test
+    void ranksDocumentsMatchingMoreQueryTermsFirst() {
+        List<EduContentSearchIndex.SearchHit> hits = index.search("적금 이자", 10);
+
+        assertThat(hits).extracting(EduContentSearchIndex.SearchHit::eduContentId).containsExactly(1L, 2L, 4L);
+    }
+
+    // 제목에 나온 단어는 본문에만 나온 단어보다 무겁다.
+    @Test
+    void ranksTitleMatchAboveBodyMatch() {
+        List<EduContentSearchIndex.SearchHit> hits = index.search("예금", 10);
+
+        assertThat(hits).extracting(EduContentSearchIndex.SearchHit::eduContentId).containsExactly(2L, 4L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void confidenceDropsWhenQueryTermsAreMissingFromCorpus() {
+        EduContentSearchIndex.SearchHit exact = index.search("예금", 1).get(0);
+        EduContentSearchIndex.SearchHit partial = index.search("예금 환율 전망", 1).get(0);
+
+        assertThat(exact.confidence()).isEqualTo(1.0);
+        assertThat(partial.eduContentId()).isEqualTo(2L);
+        assertThat(partial.confidence()).isLessThan(0.3);
+    }
+
+    @Test
+    void returnsNothingForQueriesWithoutTerms() {
+        assertThat(index.search("?!", 10)).isEmpty();
+        assertThat(index.search("환율", 10)).isEmpty();
+        assertThat(index.search("예금", 0)).isEmpty();
+    }
+
+    @Test
+    void upsertAndDeleteUpdatePostings() {
+        index.delete(2L);
+        assertThat(index.search("예금", 10)).extracting(EduContentSearchIndex.SearchHit::eduContentId).containsExactly(4L);
+
+        index.upsert(eduContent(4L, "통장 고르기", "입출금 통장의 수수료를 비교한다."));
+        assertThat(index.search("예금", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    static List<EduContent> corpus() {
+        return List.of(
+                eduContent(1L, "적금", "적금은 매달 일정 금액을 넣고 만기에 이자를 받는 상품이다."),
+                eduContent(2L, "예금", "예금은 목돈을 한 번에 맡기고 이자를 받는 상품이다."),
+                eduContent(3L, "신용점수", "신용점수는 대출 상환 이력과 카드 사용으로 정해진다."),
+                eduContent(4L, "통장 고르기", "예금 통장과 적금 통장을 비교한다."));
+    }
+
+    static EduContent eduContent(Long id, String title, String content) {
+        EduContent eduContent = EduContent.builder().title(title).content(content).build();
+        ReflectionTestUtils.setField(eduContent, "id", id);
+        return eduContent;
+    }
+
+}